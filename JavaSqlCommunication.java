@@ -15,12 +15,54 @@
 import com.mysql.cj.xdevapi.JsonValue;
 import java.sql.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.regex.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import static java.util.Calendar.DATE;
 
 
-public class JavaSqlCommunication {
+public class JavaSqlCommunication implements AutoCloseable {
 
     //---------------------------------------------------------------------------------------------------------------------
             // 0 -> Data Fields:
@@ -30,6 +72,23 @@ public class JavaSqlCommunication {
     private String password; // password to database
     private String databaseName; // database name
     private String tableName; // table-name in database
+    private ConnectionPool pool; // pool of open connections to the database, null when every call opens its own connection
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> insertSqlCache = new ConcurrentHashMap<>(); // tablename -> columnname -> parameterized INSERT
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> updateSqlCache = new ConcurrentHashMap<>(); // tablename -> columnname -> parameterized UPDATE (up to the WHERE)
+    private final ConcurrentHashMap<String, String> rowInsertSqlCache = new ConcurrentHashMap<>(); // "tablename(column1,column2,...)" -> parameterized INSERT of that row
+    private final ConcurrentHashMap<String, String> rowUpsertSqlCache = new ConcurrentHashMap<>(); // INSERT + key columns -> INSERT ... ON DUPLICATE KEY UPDATE
+    private final Set<String> checkedUpsertKeys = ConcurrentHashMap.newKeySet(); // "tablename key1,key2" found to have a primary key or unique index
+    private static final int BATCH_CHUNK_SIZE = 1000; // rows sent per executeBatch by the batch methods
+    private volatile long maxAllowedPacket = -1; // the server's max_allowed_packet, read once by getMaxAllowedPacket
+    private final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>(); // the transaction started by inTransaction on this thread, if any
+    private volatile WriteBehind writeBehind; // queue + background writer for single-value inserts, null unless enableWriteBehind was called
+    private volatile GroupCommit groupCommit; // merges concurrent single-value inserts/updates into shared commits, null unless enableGroupCommit was called
+    private volatile ResultCache resultCache; // results of the single-value selects, null unless enableResultCache was called
+    private final ConcurrentHashMap<String, RowLayout> rowLayouts = new ConcurrentHashMap<>(); // "tablename\0columns" -> how selectRow reads those columns
+    static final int DEFAULT_SELECT_MAX_ROWS = 100000; // the most rows a multi-row select returns unless setSelectMaxRows is called
+    private volatile int selectMaxRows = DEFAULT_SELECT_MAX_ROWS; // row limit of the multi-row selects
+    static final int BLOB_CHUNK_SIZE = 1 << 20; // bytes selectBlobStream reads per query
+    private volatile int selectFetchSize = 0; // rows per fetch of the multi-row selects, 0 leaves it to the driver
     // to do :: --> :: private Boolean create = false; // is there a table currently in the database
 
     //---------------------------------------------------------------------------------------------------------------------
@@ -116,12 +175,62 @@ public class JavaSqlCommunication {
         //sb.append("password = "+ password +"\n");  // turned off due too security concerns
         sb.append("databaseName = "+ databaseName +"\n");
         sb.append("tableName = "+ tableName +"\n");
+        sb.append("pooled = "+ (pool != null) +"\n");
         //sb.append("Create = "+ create +"\n");
 
         return sb.toString();
     }
 
 
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 1.4 JavaSqlCommunication (pooled)
+        //-------------------------------------------------------------------------------------
+    /**
+     * JavaSqlCommunication is a Constructor that instantiates a new instance of the JavaSqlCommunication class that keeps a pool of open connections
+     * @param url The url to the database.
+     * @param username The username for the database.
+     * @param password The password to the database.
+     * @param databasename The database name.
+     * @param minPoolSize The number of connections the pool tries to keep open at all times
+     * @param maxPoolSize The maximum number of connections open at the same time, callers wait when all of them are in use
+     * @param idleTimeoutMillis How long a connection may sit unused in the pool before it is closed (only above minPoolSize)
+     * @param maxLifetimeMillis How long a connection may live before it is retired and replaced
+     * @param validationTimeoutSeconds The timeout used when checking that a connection which sat idle is still alive
+     * --> Note: every method (insertText, updateInt, selectReal, createTextColumn, ...) borrows a connection from the pool and returns it
+     *           when done, instead of opening a brand-new connection for every single statement.
+     *           Call close() when the instance is no longer needed so the pooled connections are released.
+     */
+    public JavaSqlCommunication(String url, String username, String password, String databasename,
+                                int minPoolSize, int maxPoolSize, long idleTimeoutMillis, long maxLifetimeMillis, int validationTimeoutSeconds)
+    {
+        this(url, username, password, databasename);
+        this.pool = new ConnectionPool(minPoolSize, maxPoolSize, idleTimeoutMillis, maxLifetimeMillis, validationTimeoutSeconds);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 1.5 JavaSqlCommunication (pooled)
+        //-------------------------------------------------------------------------------------
+    /**
+     * JavaSqlCommunication is a Constructor that instantiates a new instance of the JavaSqlCommunication class that keeps a pool of open connections
+     * @param url The url to the database.
+     * @param username The username for the database.
+     * @param password The password to the database.
+     * @param databasename The database name.
+     * @param tableName The tablename to this javasqlcommunication instance will work with
+     * @param minPoolSize The number of connections the pool tries to keep open at all times
+     * @param maxPoolSize The maximum number of connections open at the same time, callers wait when all of them are in use
+     * @param idleTimeoutMillis How long a connection may sit unused in the pool before it is closed (only above minPoolSize)
+     * @param maxLifetimeMillis How long a connection may live before it is retired and replaced
+     * @param validationTimeoutSeconds The timeout used when checking that a connection which sat idle is still alive
+     */
+    public JavaSqlCommunication(String url, String username, String password, String databasename, String tableName,
+                                int minPoolSize, int maxPoolSize, long idleTimeoutMillis, long maxLifetimeMillis, int validationTimeoutSeconds)
+    {
+        this(url, username, password, databasename, tableName);
+        this.pool = new ConnectionPool(minPoolSize, maxPoolSize, idleTimeoutMillis, maxLifetimeMillis, validationTimeoutSeconds);
+    }
+
+
     //---------------------------------------------------------------------------------------------------------------------
         // End ----> Code for Constructors  <----- End.
     //---------------------------------------------------------------------------------------------------------------------
@@ -143,7 +252,7 @@ public class JavaSqlCommunication {
      * @return Returns the Connection object with a connection to the database specified in the respective JavaSqlCommunication Instance
      */
     public Connection getConnection() throws Exception {
-        return getConnection(this.databaseName+"");
+        return getConnection(this.databaseName);
     }
 
     //-----------------------------------------------------------------------------------------------------------------
@@ -156,6 +265,11 @@ public class JavaSqlCommunication {
      * USE TO CONNECT TO A DIFFERENT TABLE FROM THE ONE ENTERED WHEN CONSTRUCTING THE RESPECTIVE  INSTANCE of JavaSqlCommunication
      */
     public Connection getConnection(String databasename) throws Exception {
+        Transaction transaction = currentTransaction.get();
+        if(transaction != null)
+            return transaction.handOut(databasename);
+        if(pool != null)
+            return pool.borrow(databasename);
         return getConnection(this.url+"",this.userName+"", this.password+"",databasename+"");
     }
 
@@ -180,11 +294,7 @@ public class JavaSqlCommunication {
 
         Connection conn = null;
         try {
-            conn = DriverManager.getConnection(url+"/?useUnicode=true&useJDBCCompliantTimezoneShift=true&useLegacyDatetimeCode=false&serverTimezone=UTC&dbname="+databasename,
-                    username+"", password+"");
-            Statement stmt = conn.createStatement();
-            stmt.executeQuery("USE " + databasename);
-            stmt.close();
+            conn = openConnection(url, username, password, databasename, "");
             System.out.println("Connection Successful");
 
 
@@ -196,6 +306,68 @@ public class JavaSqlCommunication {
         return conn;
     }
 
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 1.4 openConnection
+        //-------------------------------------------------------------------------------------
+    /**
+     * openConnection is a function that opens a brand-new connection to the database requested, used by getConnection and by the connection pool
+     * --> Note 1: unlike getConnection this method does not swallow the SQLException, so the pool can tell a failed connection attempt apart
+     * --> Note 2: the database is selected during the connection handshake (it is part of the url), so no extra "USE database" round trip is needed
+     * @param options Extra url parameters for this connection (e.g POOLED_CONNECTION_OPTIONS), may be empty
+     */
+    private static Connection openConnection(String url, String username, String password, String databasename, String options) throws SQLException {
+        return DriverManager.getConnection(jdbcUrl(url, databasename, options), username+"", password+"");
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 1.4.1 jdbcUrl
+        //-------------------------------------------------------------------------------------
+    /**
+     * jdbcUrl is a function that builds the full JDBC url for the database requested
+     * --> Note 1: the url may be given with or without a trailing "/", a database path or "?" parameters (e.g jdbc:mysql://127.0.0.1:3306/?user=root),
+     *           any database already in the url is replaced by databasename and any parameters already in the url are kept
+     * --> Note 2: rewriteBatchedStatements is turned on so executeBatch of an INSERT is sent as one multi-value INSERT
+     */
+    private static String jdbcUrl(String url, String databasename, String options) {
+        String base = url;
+        String parameters = "";
+        int question = url.indexOf('?');
+        if(question >= 0) {
+            base = url.substring(0, question);
+            parameters = url.substring(question + 1);
+        }
+        int hostStart = base.indexOf("//");
+        int path = base.indexOf('/', hostStart < 0 ? 0 : hostStart + 2);
+        if(path >= 0)
+            base = base.substring(0, path);
+
+        StringBuilder sb = new StringBuilder(base);
+        sb.append('/').append(databasename);
+        sb.append("?useUnicode=true&useJDBCCompliantTimezoneShift=true&useLegacyDatetimeCode=false&serverTimezone=UTC&rewriteBatchedStatements=true");
+        if(!options.isEmpty())
+            sb.append('&').append(options);
+        if(!parameters.isEmpty())
+            sb.append('&').append(parameters);
+        return sb.toString();
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 1.5 close
+        //-------------------------------------------------------------------------------------
+    /**
+     * close is a function that closes every idle connection held by the connection pool of this JavaSqlCommunication instance
+     * --> Note 0: if write-behind is enabled, every queued insert is written before the pool is closed
+     * --> Note: connections that are still borrowed are closed as soon as they are returned,
+     *           for instances constructed without a pool this method does nothing
+     */
+    public void close() {
+        disableWriteBehind();
+        disableGroupCommit();
+        disableResultCache();
+        if(pool != null)
+            pool.close();
+    }
+
 
     //---------------------------------------------------------------------------------------------------------------------
         // End ----> Code for getConnection  <----- End.
@@ -222,10 +394,10 @@ public class JavaSqlCommunication {
         if(tablename == null)
             throw new IllegalArgumentException("JavaSqlCommunication: tablename is null");
         try (Connection conn = getConnection();
-             PreparedStatement create = conn.prepareStatement("CREATE TABLE "+tablename+"(id int)")){
+             PreparedStatement create = prepareClientSide(conn, "CREATE TABLE "+tablename+"(id int)")){
             create.execute();
             System.out.println("Create_table Successfully executed");
-            try(PreparedStatement alter = conn.prepareStatement("ALTER TABLE "+tablename+ " CHANGE COLUMN  id"+ "  id"+" INT(11) NOT NULL AUTO_INCREMENT" + " , ADD PRIMARY KEY ( id );")
+            try(PreparedStatement alter = prepareClientSide(conn, "ALTER TABLE "+tablename+ " CHANGE COLUMN  id"+ "  id"+" INT(11) NOT NULL AUTO_INCREMENT" + " , ADD PRIMARY KEY ( id );")
             ){
                 alter.executeUpdate();
             } catch (SQLException ex) {
@@ -297,8 +469,8 @@ public class JavaSqlCommunication {
             throw new IllegalStateException("createTextColumn: columnname is null");
         if(columnname.equalsIgnoreCase("text"))
             throw new IllegalArgumentException("createTextColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
-        try (Connection conn = getConnection(this.databaseName+"");
-             PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+" TEXT")
+        try (Connection conn = getConnection(this.databaseName);
+             PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+" TEXT")
         ){
             create.executeUpdate();
         } catch (SQLException ex) {
@@ -338,8 +510,8 @@ public class JavaSqlCommunication {
         if(columnname.equalsIgnoreCase("int")|| columnname.equalsIgnoreCase("in")|| columnname.equalsIgnoreCase("integer"))
             throw new IllegalArgumentException("createIntColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
 
-        try (Connection conn = getConnection(this.databaseName+"");
-             PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+" INTEGER")
+        try (Connection conn = getConnection(this.databaseName);
+             PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+" INTEGER")
         ){
             create.executeUpdate();
         } catch (SQLException ex) {
@@ -379,8 +551,8 @@ public class JavaSqlCommunication {
             throw new IllegalStateException("createBooleanColumn: columnname is null");
         if(columnname.equalsIgnoreCase("boolean"))
             throw new IllegalArgumentException("createBooleanColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
-        try (Connection conn = getConnection(this.databaseName+"");
-             PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+" BOOLEAN")
+        try (Connection conn = getConnection(this.databaseName);
+             PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+" BOOLEAN")
         ){
             create.executeUpdate();
         } catch (SQLException ex) {
@@ -420,8 +592,8 @@ public class JavaSqlCommunication {
         if(columnname.equalsIgnoreCase("float"))
             throw new IllegalArgumentException("createFloatColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
         try(
-                Connection conn = getConnection(this.databaseName+"");
-                PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+" FLOAT")
+                Connection conn = getConnection(this.databaseName);
+                PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+" FLOAT")
         ){
             create.executeUpdate();
         } catch (SQLException ex) {
@@ -460,8 +632,8 @@ public class JavaSqlCommunication {
             throw new IllegalStateException("createRealColumn: columnname is null");
         if(columnname.equalsIgnoreCase("real"))
             throw new IllegalArgumentException("createRealColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
-        try (Connection conn = getConnection(this.databaseName+"");
-             PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+" REAL")
+        try (Connection conn = getConnection(this.databaseName);
+             PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+" REAL")
         ){
             create.executeUpdate();
         } catch (SQLException ex) {
@@ -499,8 +671,8 @@ public class JavaSqlCommunication {
             throw new IllegalStateException("createImageColumn: columnname is null");
         if(columnname.equalsIgnoreCase("blob"))
             throw new IllegalArgumentException("createImageColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
-        try ( Connection conn = getConnection(this.databaseName+"");
-              PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+"  BLOB")
+        try ( Connection conn = getConnection(this.databaseName);
+              PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+"  BLOB")
         ){
             create.executeUpdate();
         }
@@ -541,8 +713,8 @@ public class JavaSqlCommunication {
             throw new IllegalStateException("createDateColumn: columnname is null");
         if(columnname.equalsIgnoreCase("date"))
             throw new IllegalArgumentException("createDateColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
-        try ( Connection conn = getConnection(this.databaseName+"");
-              PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+"  DATE")
+        try ( Connection conn = getConnection(this.databaseName);
+              PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+"  DATE")
         ){
             create.executeUpdate();
         } catch (SQLException ex) {
@@ -582,8 +754,8 @@ public class JavaSqlCommunication {
             throw new IllegalStateException("createDateTimeColumn: columnname is null");
         if(columnname.equalsIgnoreCase("datetime"))
             throw new IllegalArgumentException("createDateTimeColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
-        try (Connection conn = getConnection(this.databaseName+"");
-             PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+"  DATETIME")
+        try (Connection conn = getConnection(this.databaseName);
+             PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+"  DATETIME")
         ){
             create.executeUpdate();
         } catch (SQLException ex) {
@@ -623,8 +795,8 @@ public class JavaSqlCommunication {
             throw new IllegalStateException("createBlobColumn: columnname is null");
         if(columnname.equalsIgnoreCase("blob"))
             throw new IllegalArgumentException("createBlobColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
-        try (Connection conn = getConnection(this.databaseName+"");
-             PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+"  BLOB")
+        try (Connection conn = getConnection(this.databaseName);
+             PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+"  BLOB")
         ){
             create.executeUpdate();
         } catch (SQLException ex) {
@@ -664,8 +836,66 @@ public class JavaSqlCommunication {
             throw new IllegalStateException("createJSONColumn: columnname is null");
         if(columnname.equalsIgnoreCase("json"))
             throw new IllegalArgumentException("createJSONColumn: SQL SYNTAX ERROR columnname cannot be the same as the datatype ");
-        try (Connection conn = getConnection(this.databaseName+"");
-             PreparedStatement create = conn.prepareStatement("ALTER TABLE " +tablename + " ADD "+columnname+"  JSON")
+        try (Connection conn = getConnection(this.databaseName);
+             PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " +tablename + " ADD "+columnname+"  JSON")
+        ){
+            create.executeUpdate();
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 2.13.1 createUniqueIndex
+        //-------------------------------------------------------------------------------------
+    /**
+     * createUniqueIndex is a function that adds a unique index on the specified column, in the table specified by current JavaSqlCommunication instance
+     * --> Note: the upsert methods need the key column to be the primary key or to have a unique index
+     * @param columnname The Column-name whose values must be unique
+     */
+    public void createUniqueIndex(String columnname) throws Exception {
+        createUniqueIndex(new String[]{columnname}, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 2.13.2 createUniqueIndex
+        //-------------------------------------------------------------------------------------
+    /**
+     * createUniqueIndex is a function that adds a unique index on the specified column
+     * NOTE: This method allows the user to specify the table where the index should be created in
+     * @param columnname The Column-name whose values must be unique
+     * @param tablename The name of the Table where the index will be created
+     */
+    public void createUniqueIndex(String columnname, String tablename) throws Exception {
+        createUniqueIndex(new String[]{columnname}, tablename);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 2.13.3 createUniqueIndex
+        //-------------------------------------------------------------------------------------
+    /**
+     * createUniqueIndex is a function that adds a unique index on the combination of the specified columns, named uq_column1_column2...
+     * NOTE: This method allows the user to specify the table where the index should be created in
+     * --> Note: creating the index fails if the table already holds duplicate values for those columns
+     * @param columnnames The Column-names whose combined values must be unique
+     * @param tablename The name of the Table where the index will be created
+     */
+    public void createUniqueIndex(String[] columnnames, String tablename) throws Exception {
+        if(tablename ==null)
+            throw new IllegalStateException("createUniqueIndex: tablename is null");
+        if(columnnames ==null || columnnames.length == 0)
+            throw new IllegalStateException("createUniqueIndex: columnnames is empty");
+        for(String columnname : columnnames)
+            if(columnname == null)
+                throw new IllegalStateException("createUniqueIndex: one of the columnnames is null");
+        try (Connection conn = getConnection(this.databaseName);
+             PreparedStatement create = prepareClientSide(conn, "ALTER TABLE " + tablename + " ADD UNIQUE INDEX uq_" + String.join("_", columnnames)
+                     + " (" + String.join(", ", columnnames) + ")")
         ){
             create.executeUpdate();
         } catch (SQLException ex) {
@@ -694,7 +924,7 @@ public class JavaSqlCommunication {
 
 
     /* To Do   -->
-        1. create a method that allows the insertion of multiple values on a single database line
+ DONE:: 1. create a method that allows the insertion of multiple values on a single database line --> insertRow and newRow().insert()
             --possible ideas:
                 A.  (function called connected(" the functions for each data type are passes in "),
                 B.  or a fucntion insertline() which has overloaded functin calls to callow 1-10 entries in the same line
@@ -705,6 +935,24 @@ public class JavaSqlCommunication {
      */
 
 
+        //  --> 3.0.1 insertSql
+    //-------------------------------------------------------------------------------------
+    /**
+     * insertSql is a function that returns the parameterized INSERT statement for one column of a table, i.e INSERT INTO tablename(columnname) VALUES(?)
+     * --> Note: the text is built once per (table, column) and cached, so every insert of that column sends the exact same statement
+     *           and a pooled connection can reuse the server-side prepared statement instead of parsing a new one for every value
+     */
+    private String insertSql(String tablename, String columnname) {
+        ConcurrentHashMap<String, String> columns = insertSqlCache.computeIfAbsent(tablename, table -> new ConcurrentHashMap<>());
+        String sql = columns.get(columnname);
+        if(sql == null) {
+            sql = "INSERT INTO " + tablename + "(" + columnname + ") VALUES(?)";
+            columns.putIfAbsent(columnname, sql);
+        }
+        return sql;
+    }
+
+
 
 
 
@@ -730,7 +978,7 @@ public class JavaSqlCommunication {
         if(value1 ==null)
             throw new IllegalStateException("insert: value1 is null");
         String var1 =   "\'" + value1+ "\'" ;
-        try (Connection conn = getConnection(this.databaseName+"");
+        try (Connection conn = getConnection(this.databaseName);
              PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +column1name+ ") " + "VALUES" +"("+var1+")")
         ){
             posted.executeUpdate();
@@ -777,11 +1025,15 @@ public class JavaSqlCommunication {
         if(text ==null)
             throw new IllegalStateException("insertText: text is null");
 
-        String var1 =   "\'" + text+ "\'" ;
-        try ( Connection conn = getConnection(this.databaseName+"");
-            PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+var1+")")
+        if(deferInsert(tablename, columnname, text) || groupWrite(tablename, insertSql(tablename, columnname), text))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
+            posted.setString(1, text);
             posted.executeUpdate();
+            tableWritten(tablename);
         } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
@@ -827,11 +1079,66 @@ public class JavaSqlCommunication {
         if(integer ==null)
             throw new IllegalStateException("insertInt: integer is null");
 
-        String var1 =   "\'" + integer+ "\'" ;
-        try ( Connection conn = getConnection(this.databaseName+"");
-            PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+var1+")")
+        if(deferInsert(tablename, columnname, integer) || groupWrite(tablename, insertSql(tablename, columnname), integer))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
+        ){
+            posted.setString(1, integer);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.2.3 insertInt
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertInt is a function that inserts the specified Integer value into the specified column, without converting it to a String first
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * @param integer The Integer value to be entered into the column
+     * @param columnname The Column-name where the Integer value will be inserted
+     */
+    public void  insertInt(int integer, String columnname) throws Exception{
+        insertInt(integer, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.2.4 insertInt
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertInt is a function that inserts the specified Integer value into the specified column, without converting it to a String first
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the new column should be created in
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * --> Note 3: the value is bound with setInt instead of being formatted into a String, and the statement text comes from insertSql's cache
+     * @param integer The Integer value to be entered into the column
+     * @param columnname The Column-name where the Integer value will be inserted
+     * @param tablename The name of the Table where the Integer value will be inserted
+     */
+    public void insertInt(int integer, String columnname, String tablename) throws Exception{
+        if(tablename==null)
+            throw new IllegalStateException("insertInt: tablename is null");
+        if(columnname ==null)
+            throw new IllegalStateException("insertInt: columnname is null");
+
+        if(deferInsert(tablename, columnname, integer) || groupWrite(tablename, insertSql(tablename, columnname), integer))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
+            posted.setInt(1, integer);
             posted.executeUpdate();
+            tableWritten(tablename);
         } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
@@ -875,11 +1182,66 @@ public class JavaSqlCommunication {
         if(bool ==null)
             throw new IllegalStateException("insertBoolean: bool is null");
 
-        //String var1 =   "\'" + bool+ "\'" ;
-        try ( Connection conn = getConnection(this.databaseName+"");
-            PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+bool+")")
+        if(deferInsert(tablename, columnname, bool) || groupWrite(tablename, insertSql(tablename, columnname), bool))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
+        ){
+            posted.setBoolean(1, bool);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.3.3 insertBoolean
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertBoolean is a function that inserts the specified Boolean value into the specified column, without converting it to a String first
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * @param bool The Boolean value to be entered into the column
+     * @param columnname The Column-name where the Boolean value will be inserted
+     */
+    public void  insertBoolean(boolean bool, String columnname) throws Exception{
+        insertBoolean(bool, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.3.4 insertBoolean
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertBoolean is a function that inserts the specified Boolean value into the specified column, without converting it to a String first
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the new column should be created in
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * --> Note 3: the value is bound with setBoolean instead of being formatted into a String, and the statement text comes from insertSql's cache
+     * @param bool The Boolean value to be entered into the column
+     * @param columnname The Column-name where the Boolean value will be inserted
+     * @param tablename The name of the Table where the Boolean value will be inserted
+     */
+    public void insertBoolean(boolean bool, String columnname, String tablename) throws Exception{
+        if(tablename==null)
+            throw new IllegalStateException("insertBoolean: tablename is null");
+        if(columnname ==null)
+            throw new IllegalStateException("insertBoolean: columnname is null");
+
+        if(deferInsert(tablename, columnname, bool) || groupWrite(tablename, insertSql(tablename, columnname), bool))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
+            posted.setBoolean(1, bool);
             posted.executeUpdate();
+            tableWritten(tablename);
         } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
@@ -923,11 +1285,66 @@ public class JavaSqlCommunication {
         if(flt ==null)
             throw new IllegalStateException("insertFloat: flt is null");
 
-        String var1 =   "\'" + flt+ "\'" ;
-        try ( Connection conn = getConnection(this.databaseName+"");
-            PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+var1+")")
+        if(deferInsert(tablename, columnname, flt) || groupWrite(tablename, insertSql(tablename, columnname), flt))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
+        ){
+            posted.setString(1, flt);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.4.3 insertFloat
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertFloat is a function that inserts the specified Float value into the specified column, without converting it to a String first
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * @param flt The Float value to be entered into the column
+     * @param columnname The Column-name where the Float value will be inserted
+     */
+    public void  insertFloat(float flt, String columnname) throws Exception{
+        insertFloat(flt, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.4.4 insertFloat
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertFloat is a function that inserts the specified Float value into the specified column, without converting it to a String first
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the new column should be created in
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * --> Note 3: the value is bound with setFloat instead of being formatted into a String, and the statement text comes from insertSql's cache
+     * @param flt The Float value to be entered into the column
+     * @param columnname The Column-name where the Float value will be inserted
+     * @param tablename The name of the Table where the Float value will be inserted
+     */
+    public void insertFloat(float flt, String columnname, String tablename) throws Exception{
+        if(tablename==null)
+            throw new IllegalStateException("insertFloat: tablename is null");
+        if(columnname ==null)
+            throw new IllegalStateException("insertFloat: columnname is null");
+
+        if(deferInsert(tablename, columnname, flt) || groupWrite(tablename, insertSql(tablename, columnname), flt))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
+            posted.setFloat(1, flt);
             posted.executeUpdate();
+            tableWritten(tablename);
         } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
@@ -971,11 +1388,66 @@ public class JavaSqlCommunication {
         if(real ==null)
             throw new IllegalStateException("insertReal: real is null");
 
-        String var1 =   "\'" + real+ "\'" ;
-        try (Connection conn = getConnection(this.databaseName+"");
-            PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+var1+")")
+        if(deferInsert(tablename, columnname, real) || groupWrite(tablename, insertSql(tablename, columnname), real))
+            return;
+
+        try (Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
+        ){
+            posted.setString(1, real);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.5.3 insertReal
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertReal is a function that inserts the specified Real value into the specified column, without converting it to a String first
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * @param real The Real value to be entered into the column
+     * @param columnname The Column-name where the Real value will be inserted
+     */
+    public void  insertReal(double real, String columnname) throws Exception{
+        insertReal(real, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.5.4 insertReal
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertReal is a function that inserts the specified Real value into the specified column, without converting it to a String first
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the new column should be created in
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * --> Note 3: the value is bound with setDouble instead of being formatted into a String, and the statement text comes from insertSql's cache
+     * @param real The Real value to be entered into the column
+     * @param columnname The Column-name where the Real value will be inserted
+     * @param tablename The name of the Table where the Real value will be inserted
+     */
+    public void insertReal(double real, String columnname, String tablename) throws Exception{
+        if(tablename==null)
+            throw new IllegalStateException("insertReal: tablename is null");
+        if(columnname ==null)
+            throw new IllegalStateException("insertReal: columnname is null");
+
+        if(deferInsert(tablename, columnname, real) || groupWrite(tablename, insertSql(tablename, columnname), real))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
+            posted.setDouble(1, real);
             posted.executeUpdate();
+            tableWritten(tablename);
         } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
@@ -1020,11 +1492,15 @@ public class JavaSqlCommunication {
         if(imageUrl ==null)
             throw new IllegalStateException("insertImage: imageUrl is null");
 
-        String var1 =   "\'" + imageUrl+ "\'" ;
-        try (Connection conn = getConnection(this.databaseName+"");
-             PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+var1+")")
+        if(deferInsert(tablename, columnname, imageUrl) || groupWrite(tablename, insertSql(tablename, columnname), imageUrl))
+            return;
+
+        try (Connection conn = getConnection(this.databaseName);
+             PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
+            posted.setString(1, imageUrl);
             posted.executeUpdate();
+            tableWritten(tablename);
         } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
@@ -1032,6 +1508,42 @@ public class JavaSqlCommunication {
         }
     }
 
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.6.3 insertImage
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertImage is a function that inserts the bytes of the specified image file into the specified column
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance, and should be a BLOB type
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * @param image The image file to be entered into the column
+     * @param columnname The Column-name where the Image will be inserted
+     */
+    public void insertImage(Path image, String columnname) throws Exception{
+        insertImage(image, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.6.4 insertImage
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertImage is a function that inserts the bytes of the specified image file into the specified column
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the new column should be created in
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance, and should be a BLOB type
+     * --> Note 2: the file is read through a FileChannel and streamed to the server in chunks, see insertBlob (3.9.4),
+     *             so the image is never held on the heap as a whole
+     * @param image The image file to be entered into the column
+     * @param columnname The Column-name where the Image will be inserted
+     * @param tablename The name of the Table where the Image will be inserted
+     */
+    public void insertImage(Path image, String columnname, String tablename) throws Exception{
+        if(image ==null)
+            throw new IllegalStateException("insertImage: image is null");
+
+        try (FileChannel file = FileChannel.open(image, StandardOpenOption.READ)) {
+            insertBlob(Channels.newInputStream(file), file.size(), columnname, tablename);
+        }
+    }
+
 
 
     //-----------------------------------------------------------------------------------------------------------------
@@ -1068,11 +1580,15 @@ public class JavaSqlCommunication {
         if(date ==null)
             throw new IllegalStateException("insertDate: date is null");
 
-        String var1 =   "\'" + date+ "\'" ;
-        try ( Connection conn = getConnection(this.databaseName+"");
-            PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+var1+")")
+        if(deferInsert(tablename, columnname, date) || groupWrite(tablename, insertSql(tablename, columnname), date))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
+            posted.setString(1, date);
             posted.executeUpdate();
+            tableWritten(tablename);
         } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
@@ -1118,11 +1634,15 @@ public class JavaSqlCommunication {
         if(datetime ==null)
             throw new IllegalStateException("insertDateTime: datetime is null");
 
-        String var1 =   "\'" + datetime+ "\'" ;
-        try ( Connection conn = getConnection(this.databaseName+"");
-            PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+var1+")")
+        if(deferInsert(tablename, columnname, datetime) || groupWrite(tablename, insertSql(tablename, columnname), datetime))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
+            posted.setString(1, datetime);
             posted.executeUpdate();
+            tableWritten(tablename);
         } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
@@ -1166,11 +1686,15 @@ public class JavaSqlCommunication {
         if(blob ==null)
             throw new IllegalStateException("insertBlob: blob is null");
 
-        String var1 =   "\'" + blob+ "\'" ;
-        try ( Connection conn = getConnection(this.databaseName+"");
-            PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+var1+")")
+        if(deferInsert(tablename, columnname, blob) || groupWrite(tablename, insertSql(tablename, columnname), blob))
+            return;
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
+            posted.setString(1, blob);
             posted.executeUpdate();
+            tableWritten(tablename);
         } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
@@ -1179,16 +1703,75 @@ public class JavaSqlCommunication {
     }
 
 
-/*
-        TO DO: ::---> This does not work properly yet
+
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 3.10.1 insertJSON
-    //   ** --> i think this needs to change to accept json (objects..) **
+            //  --> 3.9.3 insertBlob
         //-------------------------------------------------------------------------------------
-    */
-/**
- * insertJSON is a function that inserts the specified JSON object into the specified column
- * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+    /**
+     * insertBlob is a function that inserts the bytes read from data into the specified Blob column, without turning them into a String
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
+     * @param data The bytes to be entered into the column, read until the end (the caller closes it)
+     * @param length The number of bytes data holds, or -1 if it is not known
+     * @param columnname The Column-name where the Blob will be inserted
+     */
+    public void insertBlob(InputStream data, long length, String columnname) throws Exception{
+        insertBlob(data, length, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.9.4 insertBlob
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertBlob is a function that inserts the bytes read from data into the specified Blob column, without turning them into a String
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the new column should be created in
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the statement is prepared on the server and the bytes are sent in chunks (the driver's blobSendChunkSize, 1MB by default)
+     *             straight from data, so a 50MB blob never sits on the heap as a byte[] or String, and binary content is stored unchanged
+     * --> Note 3: the whole blob still has to fit in the server's max_allowed_packet
+     * --> Note 4: streamed inserts are always sent right away, write-behind and group commit do not apply to them
+     * @param data The bytes to be entered into the column, read until the end (the caller closes it)
+     * @param length The number of bytes data holds, or -1 if it is not known
+     * @param columnname The Column-name where the Blob will be inserted
+     * @param tablename The name of the Table where the Blob will be inserted
+     */
+    public void insertBlob(InputStream data, long length, String columnname, String tablename) throws Exception{
+        if(tablename==null)
+            throw new IllegalStateException("insertBlob: tablename is null");
+        if(columnname ==null)
+            throw new IllegalStateException("insertBlob: columnname is null");
+        if(data ==null)
+            throw new IllegalStateException("insertBlob: data is null");
+        if(length < -1)
+            throw new IllegalArgumentException("insertBlob: length is negative");
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = prepareServerSide(conn, insertSql(tablename, columnname))
+        ){
+            if(length == -1)
+                posted.setBinaryStream(1, data);
+            else
+                posted.setBinaryStream(1, data, length);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+/*
+        TO DO: ::---> This does not work properly yet
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.10.1 insertJSON
+    //   ** --> i think this needs to change to accept json (objects..) **
+        //-------------------------------------------------------------------------------------
+    */
+/**
+ * insertJSON is a function that inserts the specified JSON object into the specified column
+ * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
  * --> Note 2: This method will create a new row, and will not update/add the value to an existing row, for that to occur the user must use the update method/function
  * @param json The JSON to be entered into the column
  * @param columnname The Column-name where the JSON will be inserted
@@ -1218,7 +1801,7 @@ public class JavaSqlCommunication {
             throw new IllegalStateException("insertJSON:: json is null");
 
         String var1 =   "\'" + json+ "\'" ;
-        try ( Connection conn = getConnection(this.databaseName+"");
+        try ( Connection conn = getConnection(this.databaseName);
             PreparedStatement posted = conn.prepareStatement("INSERT INTO " + tablename + "(" +columnname+ ") " + "VALUES" +"("+var1+")");
             ){
             posted.executeUpdate();
@@ -1232,431 +1815,4865 @@ public class JavaSqlCommunication {
 
 
 
-
-
-    //---------------------------------------------------------------------------------------------------------------------
-    // End ----> Code for Part 3 :  Insert  <----- End.
-    //---------------------------------------------------------------------------------------------------------------------
-
-
-    //********************************************************************************************************************
-    //********************************************************************************************************************
-    //********************************************************************************************************************
-
-
-    //---------------------------------------------------------------------------------------------------------------------
-    // Methods: Part 4 : JavaSqlCommunication  --> Update, where  <-- operations
-    //---------------------------------------------------------------------------------------------------------------------
-
-     /* To Do   -->
-        1. create a method that allows the update of multiple values on a single database line
-            --possible ideas:
-                A.  (function called connected(" the functions for each data type are passes in "),
-                B.  or a fucntion insertline() which has overloaded functin calls to callow 1-10 entries in the same line
-
- DONE:: 2. A single insert function for any data type
-
-        3. Edit functions to allow each function to accept its datatype not a string onlu
-     */
-
-
-        //  --> 4.0 update
-    //-------------------------------------------------------------------------------------
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.11 insertBatch
+        //-------------------------------------------------------------------------------------
     /**
-     * update is a function that Updates all rows in the specified column with the specified value, --> (A) where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_value The Value to be entered into the column
-     * @param column_Name The Column-name where the Text will be inserted
-     * @param tablename The name of the Table where the Text will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * insertBatch is the function behind insertTextBatch, insertIntBatch, ... it inserts size rows into one column of a table
+     * --> Note 1: rows are sent BATCH_CHUNK_SIZE at a time with addBatch/executeBatch, with rewriteBatchedStatements on, the driver turns
+     *             each chunk into a single INSERT ... VALUES (...),(...),... so throughput is bounded by the server not by round trips
+     * --> Note 2: all the chunks are committed together, if the connection is already inside a transaction the commit is left to its owner
+     * @param binder Binds the value of row index to the first parameter of the INSERT
      */
-    public void update(String input_value, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_value == null)
-            throw new IllegalStateException(" update: input_value is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" update: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" update: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" update: whereCondition is null");
+    private void insertBatch(String method, String columnname, String tablename, int size, BatchBinder binder) throws Exception{
+        if(tablename==null)
+            throw new IllegalStateException(method + ": tablename is null");
+        if(columnname ==null)
+            throw new IllegalStateException(method + ": columnname is null");
+        if(size == 0)
+            return;
 
-        String var1 =   "\'" + input_value+ "\'" ;
-        try (Connection con = getConnection(this.databaseName+"");
-             PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(insertSql(tablename, columnname))
         ){
-            posted.executeUpdate();
-        }catch (SQLException ex) {
+            boolean autoCommit = conn.getAutoCommit();
+            if(autoCommit)
+                conn.setAutoCommit(false);
+            try {
+                for(int index = 0; index < size; index++) {
+                    binder.bind(posted, index);
+                    posted.addBatch();
+                    if((index + 1) % BATCH_CHUNK_SIZE == 0)
+                        posted.executeBatch();
+                }
+                if(size % BATCH_CHUNK_SIZE != 0)
+                    posted.executeBatch();
+                if(autoCommit)
+                    conn.commit();
+                tableWritten(tablename);
+            } catch (SQLException | RuntimeException ex) {
+                if(autoCommit)
+                    conn.rollback();
+                throw ex;
+            } finally {
+                if(autoCommit)
+                    conn.setAutoCommit(true);
+            }
+        } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
             System.out.println("VendorError: " + ex.getErrorCode());
         }
     }
 
-
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.1.1 updateText
+            //  --> 3.11.1 BatchBinder
         //-------------------------------------------------------------------------------------
     /**
-     * updateText is a function that Updates all rows in the specified column with the specified text, --> (A) where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_text The Text to be entered into the column
-     * @param column_Name The Column-name where the Text will be inserted
-     * @param tablename The name of the Table where the Text will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * BatchBinder binds the value of one row of a batch to its PreparedStatement
      */
-    public void updateText(String input_text, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_text == null)
-            throw new IllegalStateException(" updateText: input_text is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateText: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateText: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" updateText: whereCondition is null");
+    private interface BatchBinder {
+        void bind(PreparedStatement statement, int index) throws SQLException;
+    }
 
-        String var1 =   "\'" + input_text+ "\'" ;
-        try (Connection con = getConnection(this.databaseName+"");
-             PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
-        ){
-            posted.executeUpdate();
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
-        }
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.11.2 checkNoNulls
+        //-------------------------------------------------------------------------------------
+    /**
+     * checkNoNulls is a function that throws an IllegalStateException if a collection of values handed to a batch method contains null,
+     * --> Note: it runs before anything is sent, so a bad value never leaves half a batch inserted
+     */
+    private static void checkNoNulls(String method, Collection<?> values) {
+        for(Object value : values)
+            if(value == null)
+                throw new IllegalStateException(method + ": one of the values is null");
     }
 
 
+
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.2.1 updateInt
+            //  --> 3.12.1 insertTextBatch
         //-------------------------------------------------------------------------------------
     /**
-     * updateInt is a function that Updates all rows in the specified column with the specified integer, --> (A) ONLY where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_int The integer to be entered into the column
-     * @param column_Name The Column-name where the integer will be inserted
-     * @param tablename The name of the Table where the integer will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * insertTextBatch is a function that inserts every Text value given into the specified column, one new row per value
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows instead of one round trip per row
+     * @param texts The Text values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
      */
-    public void updateInt(String input_int, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_int == null)
-            throw new IllegalStateException(" updateInt: input_int is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateInt: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateInt: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" updateInt: whereCondition is null");
+    public void insertTextBatch(Collection<String> texts, String columnname) throws Exception{
+        insertTextBatch(texts, columnname, this.tableName);
+    }
 
-        String var1 =   "\'" + input_int+ "\'" ;
-        try( Connection con = getConnection(this.databaseName+"");
-             PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
-        ){
-            posted.executeUpdate();
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
-        }
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.12.2 insertTextBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertTextBatch is a function that inserts every Text value given into the specified column, one new row per value
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the values should be inserted
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows (the driver rewrites each chunk into
+     *             one multi-value INSERT) and committed together, either every value is inserted or none is
+     * @param texts The Text values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     * @param tablename The name of the Table where the values will be inserted
+     */
+    public void insertTextBatch(Collection<String> texts, String columnname, String tablename) throws Exception{
+        if(texts == null)
+            throw new IllegalStateException("insertTextBatch: texts is null");
+        checkNoNulls("insertTextBatch", texts);
+        final String[] values = texts.toArray(new String[0]);
+        insertBatch("insertTextBatch", columnname, tablename, values.length, (posted, index) -> posted.setString(1, values[index]));
     }
 
 
+
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.3.1 updateBoolean
+            //  --> 3.13.1 insertIntBatch
         //-------------------------------------------------------------------------------------
     /**
-     * updateBoolean is a function that Updates all rows in the specified column with the specified Boolean value, --> (A) ONLY where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_bool The Text to be entered into the column
-     * @param column_Name The Column-name where the Boolean value will be inserted
-     * @param tablename The name of the Table where the Boolean value will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * insertIntBatch is a function that inserts every Integer value given into the specified column, one new row per value
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows instead of one round trip per row
+     * @param integers The Integer values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
      */
-    public void updateBoolean(Boolean input_bool, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_bool == null)
-            throw new IllegalStateException(" updateBoolean: input_bool is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateBoolean: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateBoolean: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" updateBoolean: whereCondition is null");
+    public void insertIntBatch(int[] integers, String columnname) throws Exception{
+        insertIntBatch(integers, columnname, this.tableName);
+    }
 
-        //String var1 =   "\'" + input_bool+ "\'" ;
-        try(Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + input_bool  +" WHERE " + whereCondition)
-        ){
-            posted.executeUpdate();
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
-        }
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.13.2 insertIntBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertIntBatch is a function that inserts every Integer value given into the specified column, one new row per value
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the values should be inserted
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows (the driver rewrites each chunk into
+     *             one multi-value INSERT) and committed together, either every value is inserted or none is
+     * @param integers The Integer values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     * @param tablename The name of the Table where the values will be inserted
+     */
+    public void insertIntBatch(int[] integers, String columnname, String tablename) throws Exception{
+        if(integers == null)
+            throw new IllegalStateException("insertIntBatch: integers is null");
+        insertBatch("insertIntBatch", columnname, tablename, integers.length, (posted, index) -> posted.setInt(1, integers[index]));
     }
 
 
+
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.4.1 updateFloat
+            //  --> 3.14.1 insertBooleanBatch
         //-------------------------------------------------------------------------------------
     /**
-     * updateFloat is a function that Updates all rows in the specified column with the specified Float value, --> (A) ONLY where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_float The Float value to be entered into the column
-     * @param column_Name The Column-name where the Float value will be inserted
-     * @param tablename The name of the Table where the Float value will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * insertBooleanBatch is a function that inserts every Boolean value given into the specified column, one new row per value
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows instead of one round trip per row
+     * @param bools The Boolean values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
      */
-    public void updateFloat(String input_float, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_float == null)
-            throw new IllegalStateException(" updateFloat: input_float is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateFloat: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateFloat: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" updateFloat: whereCondition is null");
+    public void insertBooleanBatch(boolean[] bools, String columnname) throws Exception{
+        insertBooleanBatch(bools, columnname, this.tableName);
+    }
 
-        String var1 =   "\'" + input_float+ "\'" ;
-        try ( Connection con = getConnection(this.databaseName+"");
-              PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
-        ){
-            posted.executeUpdate();
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
-        }
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.14.2 insertBooleanBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertBooleanBatch is a function that inserts every Boolean value given into the specified column, one new row per value
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the values should be inserted
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows (the driver rewrites each chunk into
+     *             one multi-value INSERT) and committed together, either every value is inserted or none is
+     * @param bools The Boolean values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     * @param tablename The name of the Table where the values will be inserted
+     */
+    public void insertBooleanBatch(boolean[] bools, String columnname, String tablename) throws Exception{
+        if(bools == null)
+            throw new IllegalStateException("insertBooleanBatch: bools is null");
+        insertBatch("insertBooleanBatch", columnname, tablename, bools.length, (posted, index) -> posted.setBoolean(1, bools[index]));
     }
 
 
+
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.5.1 updateReal
+            //  --> 3.15.1 insertFloatBatch
         //-------------------------------------------------------------------------------------
     /**
-     * updateReal is a function that Updates all rows in the specified column with the specified Real value, --> (A) ONLY where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_real The Real value to be entered into the column
-     * @param column_Name The Column-name where the Real value will be inserted
-     * @param tablename The name of the Table where the Real value will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * insertFloatBatch is a function that inserts every Float value given into the specified column, one new row per value
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows instead of one round trip per row
+     * @param flts The Float values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
      */
-    public void updateReal(String input_real, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_real == null)
-            throw new IllegalStateException(" updateReal: input_real is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateReal: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateReal: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" updateReal: whereCondition is null");
-
-        String var1 =   "\'" + input_real+ "\'" ;
-        try (Connection con = getConnection(this.databaseName+"");
-             PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
-        ){
-            posted.executeUpdate();
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
-        }
+    public void insertFloatBatch(float[] flts, String columnname) throws Exception{
+        insertFloatBatch(flts, columnname, this.tableName);
     }
 
-
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.6.1 updateImage
-    // --> work to be done
+            //  --> 3.15.2 insertFloatBatch
         //-------------------------------------------------------------------------------------
     /**
-     * updateImage is a function that Updates all rows in the specified column with the specified Image, --> (A) ONLY where the specified condition is true
+     * insertFloatBatch is a function that inserts every Float value given into the specified column, one new row per value
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the values should be inserted
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows (the driver rewrites each chunk into
+     *             one multi-value INSERT) and committed together, either every value is inserted or none is
+     * @param flts The Float values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     * @param tablename The name of the Table where the values will be inserted
+     */
+    public void insertFloatBatch(float[] flts, String columnname, String tablename) throws Exception{
+        if(flts == null)
+            throw new IllegalStateException("insertFloatBatch: flts is null");
+        insertBatch("insertFloatBatch", columnname, tablename, flts.length, (posted, index) -> posted.setFloat(1, flts[index]));
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.16.1 insertRealBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertRealBatch is a function that inserts every Real value given into the specified column, one new row per value
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows instead of one round trip per row
+     * @param reals The Real values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     */
+    public void insertRealBatch(double[] reals, String columnname) throws Exception{
+        insertRealBatch(reals, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.16.2 insertRealBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertRealBatch is a function that inserts every Real value given into the specified column, one new row per value
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the values should be inserted
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows (the driver rewrites each chunk into
+     *             one multi-value INSERT) and committed together, either every value is inserted or none is
+     * @param reals The Real values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     * @param tablename The name of the Table where the values will be inserted
+     */
+    public void insertRealBatch(double[] reals, String columnname, String tablename) throws Exception{
+        if(reals == null)
+            throw new IllegalStateException("insertRealBatch: reals is null");
+        insertBatch("insertRealBatch", columnname, tablename, reals.length, (posted, index) -> posted.setDouble(1, reals[index]));
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.17.1 insertDateBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertDateBatch is a function that inserts every Date value given into the specified column, one new row per value
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows instead of one round trip per row
+     * @param dates The Date values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     */
+    public void insertDateBatch(Collection<String> dates, String columnname) throws Exception{
+        insertDateBatch(dates, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.17.2 insertDateBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertDateBatch is a function that inserts every Date value given into the specified column, one new row per value
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the values should be inserted
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows (the driver rewrites each chunk into
+     *             one multi-value INSERT) and committed together, either every value is inserted or none is
+     * @param dates The Date values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     * @param tablename The name of the Table where the values will be inserted
+     */
+    public void insertDateBatch(Collection<String> dates, String columnname, String tablename) throws Exception{
+        if(dates == null)
+            throw new IllegalStateException("insertDateBatch: dates is null");
+        checkNoNulls("insertDateBatch", dates);
+        final String[] values = dates.toArray(new String[0]);
+        insertBatch("insertDateBatch", columnname, tablename, values.length, (posted, index) -> posted.setString(1, values[index]));
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.18.1 insertDateTimeBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertDateTimeBatch is a function that inserts every datetime value given into the specified column, one new row per value
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows instead of one round trip per row
+     * @param datetimes The datetime values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     */
+    public void insertDateTimeBatch(Collection<String> datetimes, String columnname) throws Exception{
+        insertDateTimeBatch(datetimes, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.18.2 insertDateTimeBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertDateTimeBatch is a function that inserts every datetime value given into the specified column, one new row per value
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the values should be inserted
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows (the driver rewrites each chunk into
+     *             one multi-value INSERT) and committed together, either every value is inserted or none is
+     * @param datetimes The datetime values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     * @param tablename The name of the Table where the values will be inserted
+     */
+    public void insertDateTimeBatch(Collection<String> datetimes, String columnname, String tablename) throws Exception{
+        if(datetimes == null)
+            throw new IllegalStateException("insertDateTimeBatch: datetimes is null");
+        checkNoNulls("insertDateTimeBatch", datetimes);
+        final String[] values = datetimes.toArray(new String[0]);
+        insertBatch("insertDateTimeBatch", columnname, tablename, values.length, (posted, index) -> posted.setString(1, values[index]));
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.19.1 insertBlobBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertBlobBatch is a function that inserts every Blob value given into the specified column, one new row per value
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows instead of one round trip per row
+     * @param blobs The Blob values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     */
+    public void insertBlobBatch(Collection<String> blobs, String columnname) throws Exception{
+        insertBlobBatch(blobs, columnname, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.19.2 insertBlobBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertBlobBatch is a function that inserts every Blob value given into the specified column, one new row per value
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the values should be inserted
+     * --> Note 1: The column must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: the values are sent with addBatch/executeBatch in chunks of BATCH_CHUNK_SIZE rows (the driver rewrites each chunk into
+     *             one multi-value INSERT) and committed together, either every value is inserted or none is
+     * @param blobs The Blob values to be entered into the column
+     * @param columnname The Column-name where the values will be inserted
+     * @param tablename The name of the Table where the values will be inserted
+     */
+    public void insertBlobBatch(Collection<String> blobs, String columnname, String tablename) throws Exception{
+        if(blobs == null)
+            throw new IllegalStateException("insertBlobBatch: blobs is null");
+        checkNoNulls("insertBlobBatch", blobs);
+        final String[] values = blobs.toArray(new String[0]);
+        insertBatch("insertBlobBatch", columnname, tablename, values.length, (posted, index) -> posted.setString(1, values[index]));
+    }
+
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.20.1 insertRow
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertRow is a function that inserts one new row with a value for every column given, in a single INSERT
+     * --> Note 1: The columns must already exist in the table specified by current JavaSqlCommunication instance.
+     * --> Note 2: unlike calling insertText, insertInt, ... once per column (which creates one row per call), all the values end up in the same row
+     * @param values The values to be entered, keyed by Column-name (a null value inserts NULL)
+     */
+    public void insertRow(Map<String, ?> values) throws Exception{
+        insertRow(values, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.20.2 insertRow
+        //-------------------------------------------------------------------------------------
+    /**
+     * insertRow is a function that inserts one new row with a value for every column given, in a single INSERT
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the row should be inserted
+     * --> Note 1: The columns must already exist in the table specified.
+     * --> Note 2: the values are bound in the iteration order of the map (use a LinkedHashMap to keep the same order), the INSERT text for
+     *             a given table and set of columns is built once and cached, so every row with the same columns reuses the prepared statement
+     * @param values The values to be entered, keyed by Column-name (a null value inserts NULL)
+     * @param tablename The name of the Table where the row will be inserted
+     */
+    public void insertRow(Map<String, ?> values, String tablename) throws Exception{
+        if(tablename==null)
+            throw new IllegalStateException("insertRow: tablename is null");
+        if(values ==null)
+            throw new IllegalStateException("insertRow: values is null");
+        if(values.isEmpty())
+            throw new IllegalStateException("insertRow: values is empty");
+
+        try ( Connection conn = getConnection(this.databaseName);
+            PreparedStatement posted = conn.prepareStatement(rowInsertSql(tablename, values.keySet()))
+        ){
+            int index = 1;
+            for(Object value : values.values())
+                posted.setObject(index++, value);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.20.3 rowInsertSql
+        //-------------------------------------------------------------------------------------
+    /**
+     * rowInsertSql is a function that returns the parameterized INSERT for one row of the given columns, i.e INSERT INTO tablename(a,b) VALUES(?,?)
+     * --> Note: the text is built once per (table, column-set) and cached, see insertSql
+     */
+    private String rowInsertSql(String tablename, Collection<String> columnnames) {
+        StringBuilder key = new StringBuilder(tablename).append('(');
+        for(String columnname : columnnames) {
+            if(columnname == null)
+                throw new IllegalStateException("insertRow: one of the columnnames is null");
+            key.append(columnname).append(',');
+        }
+        key.setCharAt(key.length() - 1, ')');
+        String sql = rowInsertSqlCache.get(key.toString());
+        if(sql == null) {
+            StringBuilder sb = new StringBuilder("INSERT INTO ").append(key).append(" VALUES(");
+            for(int i = 0; i < columnnames.size(); i++)
+                sb.append(i == 0 ? "?" : ",?");
+            sql = sb.append(')').toString();
+            rowInsertSqlCache.putIfAbsent(key.toString(), sql);
+        }
+        return sql;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.21.1 newRow
+        //-------------------------------------------------------------------------------------
+    /**
+     * newRow is a function that starts a RowBuilder for the table specified by current JavaSqlCommunication instance
+     * --> e.g  sql.newRow().setText("name", "Shlomo").setInt("age", 24).setDate("joined", "2021-06-01").insert();
+     * @return Returns an empty RowBuilder
+     */
+    public RowBuilder newRow() {
+        return newRow(this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.21.2 newRow
+        //-------------------------------------------------------------------------------------
+    /**
+     * newRow is a function that starts a RowBuilder for the specified table
+     * @param tablename The name of the Table where the row will be inserted
+     * @return Returns an empty RowBuilder
+     */
+    public RowBuilder newRow(String tablename) {
+        if(tablename==null)
+            throw new IllegalStateException("newRow: tablename is null");
+        return new RowBuilder(tablename);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.21.3 RowBuilder
+        //-------------------------------------------------------------------------------------
+    /**
+     * RowBuilder collects typed values for the columns of one row, and writes them all with insert() in a single INSERT (see insertRow)
+     */
+    public class RowBuilder {
+        private final String tablename;
+        private final LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+
+        private RowBuilder(String tablename) {
+            this.tablename = tablename;
+        }
+
+        private RowBuilder set(String columnname, Object value) {
+            if(columnname ==null)
+                throw new IllegalStateException("RowBuilder: columnname is null");
+            values.put(columnname, value);
+            return this;
+        }
+
+        public RowBuilder setText(String columnname, String text) { return set(columnname, text); }
+        public RowBuilder setInt(String columnname, int integer) { return set(columnname, integer); }
+        public RowBuilder setBoolean(String columnname, boolean bool) { return set(columnname, bool); }
+        public RowBuilder setFloat(String columnname, float flt) { return set(columnname, flt); }
+        public RowBuilder setReal(String columnname, double real) { return set(columnname, real); }
+        public RowBuilder setDate(String columnname, String date) { return set(columnname, date); }
+        public RowBuilder setDateTime(String columnname, String datetime) { return set(columnname, datetime); }
+        public RowBuilder setBlob(String columnname, String blob) { return set(columnname, blob); }
+        public RowBuilder setNull(String columnname) { return set(columnname, null); }
+
+        /**
+         * insert writes the row built so far as one new row of the table
+         */
+        public void insert() throws Exception {
+            insertRow(values, tablename);
+        }
+
+        /**
+         * upsert inserts the row built so far, or updates the existing row with the same primary/unique key (see upsertRow)
+         * @param keyColumns The Column-names of the key, they are not changed when the row already exists
+         */
+        public void upsert(String... keyColumns) throws Exception {
+            upsertRow(values, tablename, keyColumns);
+        }
+    }
+
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.22.1 newRowBatchWriterForColumns
+        //-------------------------------------------------------------------------------------
+    /**
+     * newRowBatchWriterForColumns is a function that creates a RowBatchWriter for the table specified by current JavaSqlCommunication instance
+     * --> Note: it has its own name because newRowBatchWriter(String tablename, String... columnnames) would otherwise take a single column as the table
+     * @param columnnames The Column-names every row will have a value for, in the order the values are given to addRow
+     * @return Returns a RowBatchWriter, it must be closed (or flushed) so the last rows are written
+     */
+    public RowBatchWriter newRowBatchWriterForColumns(String... columnnames) throws Exception {
+        return newRowBatchWriter(this.tableName, columnnames);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.22.2 newRowBatchWriter
+        //-------------------------------------------------------------------------------------
+    /**
+     * newRowBatchWriter is a function that creates a RowBatchWriter for the specified table
+     * --> e.g  try(JavaSqlCommunication.RowBatchWriter writer = sql.newRowBatchWriter("people", "name", "age")) {
+     *              for(Person p : people) writer.addRow(p.name, p.age);
+     *          }
+     * @param tablename The name of the Table where the rows will be inserted
+     * @param columnnames The Column-names every row will have a value for, in the order the values are given to addRow
+     * @return Returns a RowBatchWriter, it must be closed (or flushed) so the last rows are written
+     */
+    public RowBatchWriter newRowBatchWriter(String tablename, String... columnnames) throws Exception {
+        if(tablename==null)
+            throw new IllegalStateException("newRowBatchWriter: tablename is null");
+        if(columnnames ==null || columnnames.length == 0)
+            throw new IllegalStateException("newRowBatchWriter: columnnames is empty");
+        for(String columnname : columnnames)
+            if(columnname == null)
+                throw new IllegalStateException("newRowBatchWriter: one of the columnnames is null");
+        return new RowBatchWriter(tablename, columnnames.clone(), getMaxAllowedPacket());
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.22.3 getMaxAllowedPacket
+        //-------------------------------------------------------------------------------------
+    /**
+     * getMaxAllowedPacket is a function that returns the server's max_allowed_packet (the largest statement it accepts, in bytes)
+     * --> Note: the value is read from the server the first time it is needed and cached by this JavaSqlCommunication instance
+     */
+    public long getMaxAllowedPacket() throws Exception {
+        if(maxAllowedPacket < 0) {
+            try( Connection con = getConnection(this.databaseName);
+                 PreparedStatement posted = con.prepareStatement("SELECT @@max_allowed_packet");
+                 ResultSet temp = posted.executeQuery()
+            ){
+                temp.next();
+                maxAllowedPacket = temp.getLong(1);
+            }
+        }
+        return maxAllowedPacket;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.22.4 RowBatchWriter
+        //-------------------------------------------------------------------------------------
+    /**
+     * RowBatchWriter accumulates rows and writes them as multi-row INSERT INTO tablename(a,b) VALUES (?,?),(?,?),... statements,
+     * every statement is made as large as possible while staying under the server's max_allowed_packet
+     * --> Note 1: one statement carries hundreds or thousands of rows, so it is one round trip and one parse for all of them,
+     *             rowsPerSecond() and bytesPerStatement() report how the writer is doing so the row size / packet size can be tuned
+     * --> Note 2: a RowBatchWriter is not thread safe, each thread should use its own
+     */
+    public class RowBatchWriter implements AutoCloseable {
+        private static final int MAX_PLACEHOLDERS = 65535; // the most parameters a single MySQL statement may have
+        private static final double PACKET_FILL = 0.9; // share of max_allowed_packet a statement may use, the rest is left for protocol overhead
+
+        private final String tablename;
+        private final String[] columnnames;
+        private final String insertPrefix;
+        private final long statementByteLimit;
+        private final int maxRowsPerStatement;
+        private final ArrayList<Object[]> rows = new ArrayList<>();
+        private long bufferedBytes;
+
+        private long rowsWritten;
+        private long statementsWritten;
+        private long bytesWritten;
+        private long nanosWriting;
+
+        private RowBatchWriter(String tablename, String[] columnnames, long maxAllowedPacket) {
+            this.tablename = tablename;
+            this.columnnames = columnnames;
+            this.insertPrefix = "INSERT INTO " + tablename + "(" + String.join(",", columnnames) + ") VALUES ";
+            this.statementByteLimit = (long) (maxAllowedPacket * PACKET_FILL);
+            this.maxRowsPerStatement = MAX_PLACEHOLDERS / columnnames.length;
+        }
+
+        /**
+         * addRow buffers one row, and writes the buffered rows first if this row would push the statement past max_allowed_packet
+         * @param values One value per column, in the order the columns were given to newRowBatchWriter (null inserts NULL)
+         */
+        public void addRow(Object... values) throws SQLException {
+            if(values == null || values.length != columnnames.length)
+                throw new IllegalArgumentException("RowBatchWriter: a row must have exactly " + columnnames.length + " values");
+            long rowBytes = estimateBytes(values);
+            if(!rows.isEmpty() && (insertPrefix.length() + bufferedBytes + rowBytes > statementByteLimit || rows.size() >= maxRowsPerStatement))
+                flush();
+            rows.add(values.clone());
+            bufferedBytes += rowBytes;
+        }
+
+        /**
+         * flush writes every buffered row in one INSERT statement
+         */
+        public void flush() throws SQLException {
+            if(rows.isEmpty())
+                return;
+            StringBuilder sb = new StringBuilder(insertPrefix.length() + rows.size() * (columnnames.length * 2 + 3));
+            sb.append(insertPrefix);
+            for(int row = 0; row < rows.size(); row++) {
+                sb.append(row == 0 ? "(" : ",(");
+                for(int column = 0; column < columnnames.length; column++)
+                    sb.append(column == 0 ? "?" : ",?");
+                sb.append(')');
+            }
+            long start = System.nanoTime();
+            try( Connection conn = connect();
+                 PreparedStatement posted = prepareClientSide(conn, sb.toString())
+            ){
+                int index = 1;
+                for(Object[] values : rows)
+                    for(Object value : values)
+                        posted.setObject(index++, value);
+                posted.executeUpdate();
+                tableWritten(tablename);
+            }
+            nanosWriting += System.nanoTime() - start;
+            rowsWritten += rows.size();
+            statementsWritten++;
+            bytesWritten += insertPrefix.length() + bufferedBytes;
+            rows.clear();
+            bufferedBytes = 0;
+        }
+
+        /**
+         * close writes the rows still buffered
+         */
+        @Override
+        public void close() throws SQLException {
+            flush();
+        }
+
+        // getConnection is declared to throw Exception, but only ever throws SQLException or unchecked exceptions
+        private Connection connect() throws SQLException {
+            try {
+                return getConnection(databaseName);
+            } catch (SQLException | RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new SQLException("RowBatchWriter: could not connect to the database " + databaseName, ex);
+            }
+        }
+
+        public String getTableName() { return tablename; }
+        public long getRowsWritten() { return rowsWritten; }
+        public long getStatementsWritten() { return statementsWritten; }
+        public int getBufferedRows() { return rows.size(); }
+
+        /**
+         * rowsPerSecond returns the rows written per second of time spent writing (time spent buffering in the caller is not counted)
+         */
+        public double rowsPerSecond() {
+            return nanosWriting == 0 ? 0 : rowsWritten * 1e9 / nanosWriting;
+        }
+
+        /**
+         * bytesPerStatement returns the estimated average size of the INSERT statements sent so far
+         */
+        public double bytesPerStatement() {
+            return statementsWritten == 0 ? 0 : (double) bytesWritten / statementsWritten;
+        }
+
+        private long estimateBytes(Object[] values) {
+            long bytes = 3; // "(", ")" and ","
+            for(Object value : values) {
+                if(value == null)
+                    bytes += 5;
+                else if(value instanceof byte[])
+                    bytes += ((byte[]) value).length * 2L + 3;
+                else if(value instanceof Number || value instanceof Boolean)
+                    bytes += 25;
+                else
+                    bytes += value.toString().length() * 3L + 3; // worst case utf8mb3, quotes and escaping
+            }
+            return bytes;
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.22.5 prepareClientSide
+        //-------------------------------------------------------------------------------------
+    /**
+     * prepareClientSide is a function that prepares a statement on the client even if the connection uses server-side prepared statements,
+     * --> Note: used for every statement whose text changes from call to call (a whereCondition, a number of rows, DDL, ...),
+     *           preparing those on the server would cost an extra PREPARE round trip each and push the fixed-text statements
+     *           (insert, upsert, batch) out of the pooled connection's server-side statement cache
+     */
+    private static PreparedStatement prepareClientSide(Connection conn, String sql) throws SQLException {
+        if(conn.isWrapperFor(com.mysql.cj.jdbc.JdbcConnection.class))
+            return conn.unwrap(com.mysql.cj.jdbc.JdbcConnection.class).clientPrepareStatement(sql);
+        return conn.prepareStatement(sql);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.22.6 prepareServerSide
+        //-------------------------------------------------------------------------------------
+    /**
+     * prepareServerSide is a function that prepares a statement on the server even if the connection prepares on the client,
+     * --> Note: used for statements with a streamed parameter (setBinaryStream), the driver sends the stream to a server-side statement
+     *           in chunks, while a client-side statement has to read the whole stream into its query text first
+     */
+    private static PreparedStatement prepareServerSide(Connection conn, String sql) throws SQLException {
+        if(conn.isWrapperFor(com.mysql.cj.jdbc.JdbcConnection.class))
+            return conn.unwrap(com.mysql.cj.jdbc.JdbcConnection.class).serverPrepareStatement(sql);
+        return conn.prepareStatement(sql);
+    }
+
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.23.1 bulkLoad
+        //-------------------------------------------------------------------------------------
+    /**
+     * bulkLoad is a function that streams rows into a table with LOAD DATA LOCAL INFILE, the fastest way to load a large number of rows into MySQL
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the rows should be loaded
+     * --> Note 1: data must be tab separated, one row per line ("\n"), with backslash escaping and \N for NULL (the MySQL defaults),
+     *             the stream is handed straight to the driver, nothing is written to a temp file and nothing is held in memory
+     * --> Note 2: the load runs on its own connection opened with allowLoadLocalInfile, pooled connections never allow LOCAL INFILE
+     * @param tablename The name of the Table where the rows will be loaded
+     * @param columnnames The Column-names of the fields of every line, in order
+     * @param data The rows to load
+     * @return Returns the number of rows loaded
+     */
+    public long bulkLoad(String tablename, String[] columnnames, InputStream data) throws Exception {
+        if(tablename==null)
+            throw new IllegalStateException("bulkLoad: tablename is null");
+        if(columnnames ==null || columnnames.length == 0)
+            throw new IllegalStateException("bulkLoad: columnnames is empty");
+        if(data ==null)
+            throw new IllegalStateException("bulkLoad: data is null");
+
+        long loaded = 0;
+        try ( Connection conn = openConnection(this.url, this.userName, this.password, this.databaseName, "allowLoadLocalInfile=true");
+              Statement posted = conn.createStatement()
+        ){
+            posted.unwrap(com.mysql.cj.jdbc.JdbcStatement.class).setLocalInfileInputStream(data);
+            loaded = posted.executeLargeUpdate("LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + tablename
+                    + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n'"
+                    + " (" + String.join(",", columnnames) + ")");
+            tableWritten(tablename);
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return loaded;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.23.2 bulkLoad
+        //-------------------------------------------------------------------------------------
+    /**
+     * bulkLoad is a function that streams rows into a table with LOAD DATA LOCAL INFILE, the fastest way to load a large number of rows into MySQL
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the rows should be loaded
+     * --> Note: the rows are encoded one at a time while the driver sends them, so the iterator can produce millions of rows without
+     *           them ever being in memory together (Strings, Numbers, Booleans, byte[] and null are supported, anything else is sent as toString())
+     * @param tablename The name of the Table where the rows will be loaded
+     * @param columnnames The Column-names of the values of every row, in order
+     * @param rows The rows to load, one value per column
+     * @return Returns the number of rows loaded
+     */
+    public long bulkLoad(String tablename, String[] columnnames, Iterator<Object[]> rows) throws Exception {
+        if(rows ==null)
+            throw new IllegalStateException("bulkLoad: rows is null");
+        if(columnnames ==null || columnnames.length == 0)
+            throw new IllegalStateException("bulkLoad: columnnames is empty");
+        return bulkLoad(tablename, columnnames, new RowEncodingInputStream(rows, columnnames.length));
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 3.23.3 RowEncodingInputStream
+        //-------------------------------------------------------------------------------------
+    /**
+     * RowEncodingInputStream turns an Iterator of rows into the tab separated text LOAD DATA reads, encoding the next row only when the
+     * driver has consumed the previous one
+     */
+    private static class RowEncodingInputStream extends InputStream {
+        private final Iterator<Object[]> rows;
+        private final int columns;
+        private byte[] buffer = new byte[8192];
+        private int length; // bytes of the current row in buffer
+        private int position; // next byte of buffer to hand out
+
+        RowEncodingInputStream(Iterator<Object[]> rows, int columns) {
+            this.rows = rows;
+            this.columns = columns;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if(position == length && !nextRow())
+                return -1;
+            return buffer[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int count) throws IOException {
+            if(count == 0)
+                return 0;
+            if(position == length && !nextRow())
+                return -1;
+            int copied = Math.min(count, length - position);
+            System.arraycopy(buffer, position, target, offset, copied);
+            position += copied;
+            return copied;
+        }
+
+        private boolean nextRow() throws IOException {
+            if(!rows.hasNext())
+                return false;
+            Object[] row = rows.next();
+            if(row == null || row.length != columns)
+                throw new IOException("bulkLoad: every row must have exactly " + columns + " values");
+            length = 0;
+            position = 0;
+            for(int column = 0; column < columns; column++) {
+                if(column > 0)
+                    append((byte) '\t');
+                Object value = row[column];
+                if(value == null) {
+                    append((byte) '\\');
+                    append((byte) 'N');
+                } else if(value instanceof byte[]) {
+                    appendEscaped((byte[]) value);
+                } else if(value instanceof Boolean) {
+                    append((Boolean) value ? (byte) '1' : (byte) '0');
+                } else {
+                    appendEscaped(value.toString().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            append((byte) '\n');
+            return true;
+        }
+
+        private void appendEscaped(byte[] bytes) {
+            for(byte b : bytes) {
+                switch (b) {
+                    case '\\': append((byte) '\\'); append((byte) '\\'); break;
+                    case '\t': append((byte) '\\'); append((byte) 't'); break;
+                    case '\n': append((byte) '\\'); append((byte) 'n'); break;
+                    case '\r': append((byte) '\\'); append((byte) 'r'); break;
+                    case 0: append((byte) '\\'); append((byte) '0'); break;
+                    default: append(b);
+                }
+            }
+        }
+
+        private void append(byte b) {
+            if(length == buffer.length)
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            buffer[length++] = b;
+        }
+    }
+
+
+
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // End ----> Code for Part 3 :  Insert  <----- End.
+    //---------------------------------------------------------------------------------------------------------------------
+
+
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // Methods: Part 4 : JavaSqlCommunication  --> Update, where  <-- operations
+    //---------------------------------------------------------------------------------------------------------------------
+
+     /* To Do   -->
+        1. create a method that allows the update of multiple values on a single database line
+            --possible ideas:
+                A.  (function called connected(" the functions for each data type are passes in "),
+                B.  or a fucntion insertline() which has overloaded functin calls to callow 1-10 entries in the same line
+
+ DONE:: 2. A single insert function for any data type
+
+        3. Edit functions to allow each function to accept its datatype not a string onlu
+     */
+
+
+        //  --> 4.0.1 updateSql
+    //-------------------------------------------------------------------------------------
+    /**
+     * updateSql is a function that returns the parameterized UPDATE statement for one column of a table up to the where condition,
+     * i.e "UPDATE tablename SET columnname = ? WHERE " --> the caller appends the where condition
+     * --> Note: the text is built once per (table, column) and cached, see insertSql
+     */
+    private String updateSql(String tablename, String columnname) {
+        ConcurrentHashMap<String, String> columns = updateSqlCache.computeIfAbsent(tablename, table -> new ConcurrentHashMap<>());
+        String sql = columns.get(columnname);
+        if(sql == null) {
+            sql = "UPDATE " + tablename + " SET " + columnname + " = ? WHERE ";
+            columns.putIfAbsent(columnname, sql);
+        }
+        return sql;
+    }
+
+
+        //  --> 4.0 update
+    //-------------------------------------------------------------------------------------
+    /**
+     * update is a function that Updates all rows in the specified column with the specified value, --> (A) where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_value The Value to be entered into the column
+     * @param column_Name The Column-name where the Text will be inserted
+     * @param tablename The name of the Table where the Text will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void update(String input_value, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_value == null)
+            throw new IllegalStateException(" update: input_value is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" update: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" update: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" update: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_value))
+            return;
+
+        try (Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setString(1, input_value);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.1.1 updateText
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateText is a function that Updates all rows in the specified column with the specified text, --> (A) where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_text The Text to be entered into the column
+     * @param column_Name The Column-name where the Text will be inserted
+     * @param tablename The name of the Table where the Text will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateText(String input_text, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_text == null)
+            throw new IllegalStateException(" updateText: input_text is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateText: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateText: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateText: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_text))
+            return;
+
+        try (Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setString(1, input_text);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.2.1 updateInt
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateInt is a function that Updates all rows in the specified column with the specified integer, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_int The integer to be entered into the column
+     * @param column_Name The Column-name where the integer will be inserted
+     * @param tablename The name of the Table where the integer will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateInt(String input_int, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_int == null)
+            throw new IllegalStateException(" updateInt: input_int is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateInt: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateInt: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateInt: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_int))
+            return;
+
+        try( Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setString(1, input_int);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.2.2 updateInt
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateInt is a function that Updates all rows in the specified column with the specified integer value, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     *      * --> Note 3: the value is bound with setInt instead of being formatted into a String, the statement text still ends with whereCondition so it is built for every call
+     * @param input_int The integer value to be entered into the column
+     * @param column_Name The Column-name where the integer value will be inserted
+     * @param tablename The name of the Table where the integer value will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateInt(int input_int, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(column_Name == null)
+            throw new IllegalStateException(" updateInt: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateInt: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateInt: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_int))
+            return;
+
+        try( Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setInt(1, input_int);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.3.1 updateBoolean
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateBoolean is a function that Updates all rows in the specified column with the specified Boolean value, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_bool The Text to be entered into the column
+     * @param column_Name The Column-name where the Boolean value will be inserted
+     * @param tablename The name of the Table where the Boolean value will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateBoolean(Boolean input_bool, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_bool == null)
+            throw new IllegalStateException(" updateBoolean: input_bool is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateBoolean: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateBoolean: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateBoolean: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_bool))
+            return;
+
+        try(Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setBoolean(1, input_bool);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.3.2 updateBoolean
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateBoolean is a function that Updates all rows in the specified column with the specified Boolean value, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     *      * --> Note 3: the value is bound with setBoolean instead of being formatted into a String, the statement text still ends with whereCondition so it is built for every call
+     * @param input_bool The Boolean value to be entered into the column
+     * @param column_Name The Column-name where the Boolean value will be inserted
+     * @param tablename The name of the Table where the Boolean value will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateBoolean(boolean input_bool, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(column_Name == null)
+            throw new IllegalStateException(" updateBoolean: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateBoolean: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateBoolean: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_bool))
+            return;
+
+        try( Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setBoolean(1, input_bool);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.4.1 updateFloat
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateFloat is a function that Updates all rows in the specified column with the specified Float value, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_float The Float value to be entered into the column
+     * @param column_Name The Column-name where the Float value will be inserted
+     * @param tablename The name of the Table where the Float value will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateFloat(String input_float, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_float == null)
+            throw new IllegalStateException(" updateFloat: input_float is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateFloat: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateFloat: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateFloat: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_float))
+            return;
+
+        try ( Connection con = getConnection(this.databaseName);
+              PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setString(1, input_float);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.4.2 updateFloat
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateFloat is a function that Updates all rows in the specified column with the specified Float value, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     *      * --> Note 3: the value is bound with setFloat instead of being formatted into a String, the statement text still ends with whereCondition so it is built for every call
+     * @param input_float The Float value to be entered into the column
+     * @param column_Name The Column-name where the Float value will be inserted
+     * @param tablename The name of the Table where the Float value will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateFloat(float input_float, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(column_Name == null)
+            throw new IllegalStateException(" updateFloat: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateFloat: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateFloat: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_float))
+            return;
+
+        try( Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setFloat(1, input_float);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.5.1 updateReal
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateReal is a function that Updates all rows in the specified column with the specified Real value, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_real The Real value to be entered into the column
+     * @param column_Name The Column-name where the Real value will be inserted
+     * @param tablename The name of the Table where the Real value will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateReal(String input_real, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_real == null)
+            throw new IllegalStateException(" updateReal: input_real is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateReal: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateReal: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateReal: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_real))
+            return;
+
+        try (Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setString(1, input_real);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.5.2 updateReal
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateReal is a function that Updates all rows in the specified column with the specified Real value, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     *      * --> Note 3: the value is bound with setDouble instead of being formatted into a String, the statement text still ends with whereCondition so it is built for every call
+     * @param input_real The Real value to be entered into the column
+     * @param column_Name The Column-name where the Real value will be inserted
+     * @param tablename The name of the Table where the Real value will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateReal(double input_real, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(column_Name == null)
+            throw new IllegalStateException(" updateReal: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateReal: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateReal: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_real))
+            return;
+
+        try( Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setDouble(1, input_real);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.6.1 updateImage
+    // --> work to be done
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateImage is a function that Updates all rows in the specified column with the specified Image, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_imageURL The Image to be entered into the column
+     * @param column_Name The Column-name where the Image will be inserted
+     * @param tablename The name of the Table where the Image will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateImage(String input_imageURL, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_imageURL == null)
+            throw new IllegalStateException(" updateImage: input_value is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateImage: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateImage: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateImage: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_imageURL))
+            return;
+
+        try ( Connection con = getConnection(this.databaseName);
+              PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setString(1, input_imageURL);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.7.1 updateDate
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateDate is a function that Updates all rows in the specified column with the specified Date, --> (A) ONly where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_date The Date to be entered into the column
+     * @param column_Name The Column-name where the Date will be inserted
+     * @param tablename The name of the Table where the Date will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateDate(String input_date, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_date == null)
+            throw new IllegalStateException(" updateDate: input_date is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateDate: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateDate: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateDate: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_date))
+            return;
+
+        try ( Connection con = getConnection(this.databaseName);
+              PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setString(1, input_date);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.8.1 updateDateTime
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateDateTime is a function that Updates all rows in the specified column with the specified datetime value, --> (A) ONLY where the specified condition is true
      * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
      *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
      *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_imageURL The Image to be entered into the column
-     * @param column_Name The Column-name where the Image will be inserted
-     * @param tablename The name of the Table where the Image will be inserted
+     * @param input_datetime The datetime value to be entered into the column
+     * @param column_Name The Column-name where the datetime value will be inserted
+     * @param tablename The name of the Table where the datetime value will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateDateTime(String input_datetime, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_datetime == null)
+            throw new IllegalStateException(" updateDateTime: input_datetime is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateDateTime: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateDateTime: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateDateTime: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_datetime))
+            return;
+
+        try ( Connection con = getConnection(this.databaseName);
+              PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setString(1, input_datetime);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.9.1 updateBlob
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateBlob is a function that Updates all rows in the specified column with the specified Blob, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_blob The Text to be entered into the column
+     * @param column_Name The Column-name where the Blob will be inserted
+     * @param tablename The name of the Table where the Blob will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateBlob(String input_blob, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_blob == null)
+            throw new IllegalStateException(" updateBlob: input_blob is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateBlob: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateBlob: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateBlob: whereCondition is null");
+
+        if(groupWrite(tablename, updateSql(tablename, column_Name) + whereCondition, input_blob))
+            return;
+
+        try ( Connection con = getConnection(this.databaseName);
+              PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setString(1, input_blob);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.9.2 updateBlob
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateBlob is a function that Updates all rows in the specified column with the bytes read from data, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     * --> Note 2: the bytes are streamed to the server in chunks and stored unchanged, see insertBlob (3.9.4)
+     * @param data The bytes to be entered into the column, read until the end (the caller closes it)
+     * @param column_Name The Column-name where the Blob will be inserted
+     * @param tablename The name of the Table where the Blob will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     */
+    public void updateBlob(InputStream data, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(data == null)
+            throw new IllegalStateException(" updateBlob: data is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateBlob: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateBlob: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateBlob: whereCondition is null");
+
+        try ( Connection con = getConnection(this.databaseName);
+              PreparedStatement posted = prepareServerSide(con, updateSql(tablename, column_Name) + whereCondition)
+        ){
+            posted.setBinaryStream(1, data);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+/*
+            TO DO
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.10.1 updateJSON
+        //-------------------------------------------------------------------------------------
+    *//**
+     * updateJSON is a function that Updates all rows in the specified column with the specified JSON Value/Object, --> (A) ONLY where the specified condition is true
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_json The JSON Value/Object to be entered into the column
+     * @param column_Name The Column-name where the JSON Value/Object will be inserted
+     * @param tablename The name of the Table where the JSON Value/Object will be inserted
      * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     *//*
+    public void updateJSON(String input_json, String column_Name, String tablename, String whereCondition ) throws Exception{
+        if(input_json == null)
+            throw new IllegalStateException(" updateJSON: input_json is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" updateJSON: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateJSON: tablename is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(" updateJSON: whereCondition is null");
+        try ( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, updateSql(tablename, column_Name) + whereCondition)
+            ){
+            posted.setString(1, input_json);
+            posted.executeUpdate();
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }*/
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.11.1 updateBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateBatch is a function that sets the specified column of many rows, each row identified by the value of its key column
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     * --> Note 1: The columns must already exist in the table specified.
+     * --> Note 2: every update is sent together and committed once, instead of one UPDATE (and one connection) per row,
+     *             as a batched "UPDATE ... SET column = ? WHERE keyColumn = ?" that goes out as one packet per BATCH_CHUNK_SIZE keys
+     *             (see updateBatchByStatement) and still reports the rows changed for each key
+     * @param column_Name The Column-name that will be updated
+     * @param tablename The name of the Table where the update will occur
+     * @param keyColumn The Column-name that identifies each row (usually id or another unique column)
+     * @param values The new value for each key (a null value sets NULL)
+     * @return Returns the number of rows changed for every key, in the order of the map
+     */
+    public <K> Map<K, Integer> updateBatch(String column_Name, String tablename, String keyColumn, Map<K, ?> values) throws Exception{
+        if(column_Name == null)
+            throw new IllegalStateException(" updateBatch: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" updateBatch: tablename is null");
+        if(keyColumn == null)
+            throw new IllegalStateException(" updateBatch: keyColumn is null");
+        if(values == null)
+            throw new IllegalStateException(" updateBatch: values is null");
+        checkNoNulls("updateBatch", values.keySet());
+
+        Map<K, Integer> counts = new LinkedHashMap<>();
+        if(values.isEmpty())
+            return counts;
+        try ( Connection con = getConnection(this.databaseName) ){
+            boolean autoCommit = con.getAutoCommit();
+            if(autoCommit)
+                con.setAutoCommit(false);
+            try {
+                updateBatchByStatement(con, updateSql(tablename, column_Name) + keyColumn + " = ?", values, counts);
+                if(autoCommit)
+                    con.commit();
+                tableWritten(tablename);
+            } catch (SQLException | RuntimeException ex) {
+                counts.clear();
+                if(autoCommit)
+                    con.rollback();
+                throw ex;
+            } finally {
+                if(autoCommit)
+                    con.setAutoCommit(true);
+            }
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return counts;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.11.2 updateBatchByStatement
+        //-------------------------------------------------------------------------------------
+    /**
+     * updateBatchByStatement sends a batched update, e.g "UPDATE tablename SET column = ? WHERE keyColumn = ?", with an entry per key,
+     * BATCH_CHUNK_SIZE entries per executeBatch
+     * --> Note: the statement is prepared on the client, for a server-side statement the driver sends one execute per key,
+     *           while rewriteBatchedStatements sends a client-side batch (of more than 3 entries) as one multi-statement packet
+     * @param sql An UPDATE whose first parameter is the value and second parameter is the key
+     */
+    private <K> void updateBatchByStatement(Connection con, String sql, Map<K, ?> values, Map<K, Integer> counts) throws SQLException{
+        try ( PreparedStatement posted = prepareClientSide(con, sql) ){
+            ArrayList<K> pending = new ArrayList<>();
+            int sent = 0;
+            for(Map.Entry<K, ?> entry : values.entrySet()) {
+                posted.setObject(1, entry.getValue());
+                posted.setObject(2, entry.getKey());
+                posted.addBatch();
+                pending.add(entry.getKey());
+                sent++;
+                if(pending.size() == BATCH_CHUNK_SIZE || sent == values.size()) {
+                    int[] updated = posted.executeBatch();
+                    for(int i = 0; i < updated.length; i++)
+                        counts.put(pending.get(i), updated[i]);
+                    pending.clear();
+                }
+            }
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.12 upsertValue
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertValue is the function behind upsertText, upsertInt, ... --> INSERT INTO tablename(keyColumn, column) VALUES(?, ?) AS new ON DUPLICATE KEY UPDATE column = new.column
+     */
+    private void upsertValue(String method, Object value, String column_Name, String tablename, String keyColumn, Object keyValue) throws Exception{
+        if(value == null)
+            throw new IllegalStateException(" " + method + ": value is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" " + method + ": column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" " + method + ": tablename is null");
+        if(keyColumn == null)
+            throw new IllegalStateException(" " + method + ": keyColumn is null");
+        if(keyValue == null)
+            throw new IllegalStateException(" " + method + ": keyValue is null");
+
+        String[] keyColumns = {keyColumn};
+        try ( Connection con = getConnection(this.databaseName) ){
+            checkUpsertKey(con, tablename, keyColumns);
+            try ( PreparedStatement posted = con.prepareStatement(rowUpsertSql(tablename, Arrays.asList(keyColumn, column_Name), keyColumns)) ){
+                posted.setObject(1, keyValue);
+                posted.setObject(2, value);
+                posted.executeUpdate();
+            }
+            tableWritten(tablename);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.12.1 upsertText
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertText is a function that sets the specified column to the specified Text value in the row whose key is keyValue,
+     * creating that row if it does not exist yet, in one atomic INSERT ... ON DUPLICATE KEY UPDATE statement
+     * --> Note: replaces calling isLocationEmpty followed by insertText or updateText (two round trips, and racy under concurrency),
+     *           keyColumn must be the primary key or have a unique index (see createUniqueIndex), otherwise an IllegalStateException is thrown
+     * @param input_text The Text value to be entered into the column
+     * @param column_Name The Column-name where the value will be written
+     * @param tablename The name of the Table where the value will be written
+     * @param keyColumn The Column-name of the primary/unique key that identifies the row
+     * @param keyValue The value of the key of the row
+     */
+    public void upsertText(String input_text, String column_Name, String tablename, String keyColumn, Object keyValue) throws Exception{
+        upsertValue("upsertText", input_text, column_Name, tablename, keyColumn, keyValue);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.12.2 upsertInt
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertInt is a function that sets the specified column to the specified integer value in the row whose key is keyValue,
+     * creating that row if it does not exist yet, in one atomic INSERT ... ON DUPLICATE KEY UPDATE statement
+     * --> Note: replaces calling isLocationEmpty followed by insertInt or updateInt (two round trips, and racy under concurrency),
+     *           keyColumn must be the primary key or have a unique index (see createUniqueIndex), otherwise an IllegalStateException is thrown
+     * @param input_int The integer value to be entered into the column
+     * @param column_Name The Column-name where the value will be written
+     * @param tablename The name of the Table where the value will be written
+     * @param keyColumn The Column-name of the primary/unique key that identifies the row
+     * @param keyValue The value of the key of the row
+     */
+    public void upsertInt(int input_int, String column_Name, String tablename, String keyColumn, Object keyValue) throws Exception{
+        upsertValue("upsertInt", input_int, column_Name, tablename, keyColumn, keyValue);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.12.3 upsertBoolean
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertBoolean is a function that sets the specified column to the specified Boolean value in the row whose key is keyValue,
+     * creating that row if it does not exist yet, in one atomic INSERT ... ON DUPLICATE KEY UPDATE statement
+     * --> Note: replaces calling isLocationEmpty followed by insertBoolean or updateBoolean (two round trips, and racy under concurrency),
+     *           keyColumn must be the primary key or have a unique index (see createUniqueIndex), otherwise an IllegalStateException is thrown
+     * @param input_bool The Boolean value to be entered into the column
+     * @param column_Name The Column-name where the value will be written
+     * @param tablename The name of the Table where the value will be written
+     * @param keyColumn The Column-name of the primary/unique key that identifies the row
+     * @param keyValue The value of the key of the row
+     */
+    public void upsertBoolean(boolean input_bool, String column_Name, String tablename, String keyColumn, Object keyValue) throws Exception{
+        upsertValue("upsertBoolean", input_bool, column_Name, tablename, keyColumn, keyValue);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.12.4 upsertFloat
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertFloat is a function that sets the specified column to the specified Float value in the row whose key is keyValue,
+     * creating that row if it does not exist yet, in one atomic INSERT ... ON DUPLICATE KEY UPDATE statement
+     * --> Note: replaces calling isLocationEmpty followed by insertFloat or updateFloat (two round trips, and racy under concurrency),
+     *           keyColumn must be the primary key or have a unique index (see createUniqueIndex), otherwise an IllegalStateException is thrown
+     * @param input_float The Float value to be entered into the column
+     * @param column_Name The Column-name where the value will be written
+     * @param tablename The name of the Table where the value will be written
+     * @param keyColumn The Column-name of the primary/unique key that identifies the row
+     * @param keyValue The value of the key of the row
+     */
+    public void upsertFloat(float input_float, String column_Name, String tablename, String keyColumn, Object keyValue) throws Exception{
+        upsertValue("upsertFloat", input_float, column_Name, tablename, keyColumn, keyValue);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.12.5 upsertReal
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertReal is a function that sets the specified column to the specified Real value in the row whose key is keyValue,
+     * creating that row if it does not exist yet, in one atomic INSERT ... ON DUPLICATE KEY UPDATE statement
+     * --> Note: replaces calling isLocationEmpty followed by insertReal or updateReal (two round trips, and racy under concurrency),
+     *           keyColumn must be the primary key or have a unique index (see createUniqueIndex), otherwise an IllegalStateException is thrown
+     * @param input_real The Real value to be entered into the column
+     * @param column_Name The Column-name where the value will be written
+     * @param tablename The name of the Table where the value will be written
+     * @param keyColumn The Column-name of the primary/unique key that identifies the row
+     * @param keyValue The value of the key of the row
+     */
+    public void upsertReal(double input_real, String column_Name, String tablename, String keyColumn, Object keyValue) throws Exception{
+        upsertValue("upsertReal", input_real, column_Name, tablename, keyColumn, keyValue);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.12.6 upsertDate
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertDate is a function that sets the specified column to the specified Date value in the row whose key is keyValue,
+     * creating that row if it does not exist yet, in one atomic INSERT ... ON DUPLICATE KEY UPDATE statement
+     * --> Note: replaces calling isLocationEmpty followed by insertDate or updateDate (two round trips, and racy under concurrency),
+     *           keyColumn must be the primary key or have a unique index (see createUniqueIndex), otherwise an IllegalStateException is thrown
+     * @param input_date The Date value to be entered into the column
+     * @param column_Name The Column-name where the value will be written
+     * @param tablename The name of the Table where the value will be written
+     * @param keyColumn The Column-name of the primary/unique key that identifies the row
+     * @param keyValue The value of the key of the row
+     */
+    public void upsertDate(String input_date, String column_Name, String tablename, String keyColumn, Object keyValue) throws Exception{
+        upsertValue("upsertDate", input_date, column_Name, tablename, keyColumn, keyValue);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.12.7 upsertDateTime
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertDateTime is a function that sets the specified column to the specified datetime value in the row whose key is keyValue,
+     * creating that row if it does not exist yet, in one atomic INSERT ... ON DUPLICATE KEY UPDATE statement
+     * --> Note: replaces calling isLocationEmpty followed by insertDateTime or updateDateTime (two round trips, and racy under concurrency),
+     *           keyColumn must be the primary key or have a unique index (see createUniqueIndex), otherwise an IllegalStateException is thrown
+     * @param input_datetime The datetime value to be entered into the column
+     * @param column_Name The Column-name where the value will be written
+     * @param tablename The name of the Table where the value will be written
+     * @param keyColumn The Column-name of the primary/unique key that identifies the row
+     * @param keyValue The value of the key of the row
+     */
+    public void upsertDateTime(String input_datetime, String column_Name, String tablename, String keyColumn, Object keyValue) throws Exception{
+        upsertValue("upsertDateTime", input_datetime, column_Name, tablename, keyColumn, keyValue);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.12.8 upsertBlob
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertBlob is a function that sets the specified column to the specified Blob value in the row whose key is keyValue,
+     * creating that row if it does not exist yet, in one atomic INSERT ... ON DUPLICATE KEY UPDATE statement
+     * --> Note: replaces calling isLocationEmpty followed by insertBlob or updateBlob (two round trips, and racy under concurrency),
+     *           keyColumn must be the primary key or have a unique index (see createUniqueIndex), otherwise an IllegalStateException is thrown
+     * @param input_blob The Blob value to be entered into the column
+     * @param column_Name The Column-name where the value will be written
+     * @param tablename The name of the Table where the value will be written
+     * @param keyColumn The Column-name of the primary/unique key that identifies the row
+     * @param keyValue The value of the key of the row
+     */
+    public void upsertBlob(String input_blob, String column_Name, String tablename, String keyColumn, Object keyValue) throws Exception{
+        upsertValue("upsertBlob", input_blob, column_Name, tablename, keyColumn, keyValue);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.13.1 upsertRow
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertRow is a function that inserts one row with a value for every column given, or, when a row with the same primary/unique key
+     * already exists, updates that row's non-key columns instead --> all in one atomic INSERT ... ON DUPLICATE KEY UPDATE statement
+     * --> Note 1: the values must include the key columns, the statement text is cached per (table, column-set, key columns) like insertRow
+     * --> Note 2: the key columns must be the primary key or have a unique index (see createUniqueIndex), otherwise an IllegalStateException is thrown
+     * @param values The values to be written, keyed by Column-name (a null value writes NULL)
+     * @param tablename The name of the Table where the row will be written
+     * @param keyColumns The Column-names of the key, they are not changed when the row already exists
+     */
+    public void upsertRow(Map<String, ?> values, String tablename, String... keyColumns) throws Exception{
+        if(tablename==null)
+            throw new IllegalStateException("upsertRow: tablename is null");
+        if(values ==null || values.isEmpty())
+            throw new IllegalStateException("upsertRow: values is empty");
+
+        try ( Connection conn = getConnection(this.databaseName) ){
+            checkUpsertKey(conn, tablename, keyColumns);
+            try ( PreparedStatement posted = conn.prepareStatement(rowUpsertSql(tablename, values.keySet(), keyColumns)) ){
+                int index = 1;
+                for(Object value : values.values())
+                    posted.setObject(index++, value);
+                posted.executeUpdate();
+            }
+            tableWritten(tablename);
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.13.2 upsertRowBatch
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertRowBatch is a function that upserts many rows (see upsertRow), BATCH_CHUNK_SIZE rows per round trip, each chunk sent as one
+     * multi-row INSERT INTO tablename(a,b) VALUES(?,?),(?,?),... AS new ON DUPLICATE KEY UPDATE, and every chunk is committed together
+     * --> Note 1: every row must have the same columns, in the same order, as the first one
+     * --> Note 2: the multi-row text is built here rather than left to rewriteBatchedStatements, which repeats the row alias after every row
+     *             ("VALUES(?,?) AS new ,(?,?) AS new ...") and so turns a batch of more than one row into invalid SQL
+     * @param rows The rows to be written, each keyed by Column-name
+     * @param tablename The name of the Table where the rows will be written
+     * @param keyColumns The Column-names of the key, they are not changed when a row already exists
+     */
+    public void upsertRowBatch(Collection<? extends Map<String, ?>> rows, String tablename, String... keyColumns) throws Exception{
+        if(tablename==null)
+            throw new IllegalStateException("upsertRowBatch: tablename is null");
+        if(rows ==null)
+            throw new IllegalStateException("upsertRowBatch: rows is null");
+        checkNoNulls("upsertRowBatch", rows);
+        if(rows.isEmpty())
+            return;
+        final ArrayList<String> columnnames = new ArrayList<>(rows.iterator().next().keySet());
+        for(Map<String, ?> row : rows)
+            if(!new ArrayList<>(row.keySet()).equals(columnnames))
+                throw new IllegalStateException("upsertRowBatch: every row must have the columns " + columnnames);
+        final ArrayList<Map<String, ?>> list = new ArrayList<>(rows);
+
+        try ( Connection conn = getConnection(this.databaseName) ){
+            checkUpsertKey(conn, tablename, keyColumns);
+            String insert = rowInsertSql(tablename, columnnames);
+            String tuple = insert.substring(insert.lastIndexOf('(')); // (?,?,...)
+            String update = upsertUpdateSql(columnnames, keyColumns);
+            boolean autoCommit = conn.getAutoCommit();
+            if(autoCommit)
+                conn.setAutoCommit(false);
+            try {
+                for(int start = 0; start < list.size(); start += BATCH_CHUNK_SIZE) {
+                    int end = Math.min(start + BATCH_CHUNK_SIZE, list.size());
+                    StringBuilder sb = new StringBuilder(insert.length() + (end - start) * (tuple.length() + 1) + update.length());
+                    sb.append(insert);
+                    for(int row = start + 1; row < end; row++)
+                        sb.append(',').append(tuple);
+                    sb.append(update);
+                    try ( PreparedStatement posted = prepareClientSide(conn, sb.toString()) ){
+                        int index = 1;
+                        for(int row = start; row < end; row++)
+                            for(Object value : list.get(row).values())
+                                posted.setObject(index++, value);
+                        posted.executeUpdate();
+                    }
+                }
+                if(autoCommit)
+                    conn.commit();
+                tableWritten(tablename);
+            } catch (SQLException | RuntimeException ex) {
+                if(autoCommit)
+                    conn.rollback();
+                throw ex;
+            } finally {
+                if(autoCommit)
+                    conn.setAutoCommit(true);
+            }
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.13.3 rowUpsertSql
+        //-------------------------------------------------------------------------------------
+    /**
+     * rowUpsertSql is a function that returns INSERT INTO tablename(a,b,c) VALUES(?,?,?) AS new ON DUPLICATE KEY UPDATE b = new.b, c = new.c
+     * where the key columns (here a) are left out of the UPDATE part, the text is cached like rowInsertSql
+     * --> Note: the row alias ("AS new") needs MySQL 8.0.19 or later, it replaces VALUES(column) which MySQL deprecates from 8.0.20 with a warning per statement
+     */
+    private String rowUpsertSql(String tablename, Collection<String> columnnames, String[] keyColumns) {
+        if(keyColumns == null || keyColumns.length == 0)
+            throw new IllegalStateException("upsert: at least one key column is needed");
+        String insert = rowInsertSql(tablename, columnnames);
+        String key = insert + " " + String.join(",", keyColumns);
+        String sql = rowUpsertSqlCache.get(key);
+        if(sql == null) {
+            sql = insert + upsertUpdateSql(columnnames, keyColumns);
+            rowUpsertSqlCache.putIfAbsent(key, sql);
+        }
+        return sql;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.13.4 checkUpsertKey
+        //-------------------------------------------------------------------------------------
+    /**
+     * checkUpsertKey is a function that makes sure an upsert's key columns are the primary key or have a unique index,
+     * without one ON DUPLICATE KEY UPDATE never finds the existing row and every upsert silently inserts another one
+     * --> Note: a table found to have such an index is remembered, so the check is one metadata query per (table, key columns)
+     */
+    private void checkUpsertKey(Connection conn, String tablename, String[] keyColumns) throws SQLException {
+        if(keyColumns == null || keyColumns.length == 0)
+            throw new IllegalStateException("upsert: at least one key column is needed");
+        String key = tablename + " " + String.join(",", keyColumns);
+        if(checkedUpsertKeys.contains(key))
+            return;
+        Map<String, List<String>> uniqueIndexes = new HashMap<>(); // index name -> its columns, the primary key is called PRIMARY
+        try (ResultSet indexes = conn.getMetaData().getIndexInfo(this.databaseName, null, tablename, true, true)) {
+            while(indexes.next()) {
+                String index = indexes.getString("INDEX_NAME");
+                String column = indexes.getString("COLUMN_NAME");
+                if(index != null && column != null)
+                    uniqueIndexes.computeIfAbsent(index, name -> new ArrayList<>()).add(column);
+            }
+        }
+        for(List<String> columns : uniqueIndexes.values()) {
+            boolean covered = true;
+            for(String column : columns) {
+                boolean isKey = false;
+                for(String keyColumn : keyColumns)
+                    isKey |= keyColumn.equalsIgnoreCase(column);
+                covered &= isKey;
+            }
+            if(covered) {
+                checkedUpsertKeys.add(key);
+                return;
+            }
+        }
+        throw new IllegalStateException("upsert: " + tablename + " has no primary key or unique index on (" + String.join(", ", keyColumns)
+                + "), every upsert would insert a new row --> create one with createUniqueIndex");
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 4.13.5 upsertUpdateSql
+        //-------------------------------------------------------------------------------------
+    /**
+     * upsertUpdateSql is a function that returns the part of an upsert after its VALUES, i.e " AS new ON DUPLICATE KEY UPDATE b = new.b, c = new.c"
+     */
+    private static String upsertUpdateSql(Collection<String> columnnames, String[] keyColumns) {
+        List<String> keys = Arrays.asList(keyColumns);
+        StringBuilder sb = new StringBuilder(" AS new ON DUPLICATE KEY UPDATE ");
+        boolean first = true;
+        for(String columnname : columnnames) {
+            if(keys.contains(columnname))
+                continue;
+            sb.append(first ? "" : ", ").append(columnname).append(" = new.").append(columnname);
+            first = false;
+        }
+        if(first) // every column is part of the key, there is nothing to update
+            sb.append(keyColumns[0]).append(" = ").append(keyColumns[0]);
+        return sb.toString();
+    }
+
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // End ----> Code for Part 4 :  Update, where  <----- End.
+    //---------------------------------------------------------------------------------------------------------------------
+
+
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // Methods: Part 5 : JavaSqlCommunication  --> Select  <-- operations, returns the datatype that asked for or object if requested a full row of data
+    //---------------------------------------------------------------------------------------------------------------------
+
+        //  --> 5.1.1 selectText
+    //-------------------------------------------------------------------------------------
+    /**
+     * selectText is a function that returns a single row of text from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name  The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single row (table-entry) of text
+     */
+    public  String selectText(String column_name, String whereCondition ) throws Exception
+    {
+        return selectText(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.1.2 selectText
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectText is a function that returns a single row of text from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the text should be obtained from
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     */
+    public  String selectText(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectText: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectText: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectText: table_name is null");
+        // --> must code in a unique method to make this possible
+        // --> i.e to actually return all the data values tht are in a row of seperate columns ,
+        // we could also ust print it as a string or return it all as a string
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        CachedResult cached = lookupResult("selectText", table_name, column_name, whereCondition);
+        if(cached.hit())
+            return (String) cached.value();
+
+        String text = null;
+        try ( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            temp.next();
+            text =temp.getString(1);
+            cached.store(text);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return text;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.2.1 selectInt
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectInt is a function that returns a single integer value from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) integer value
+     */
+    public  Integer selectInt(String column_name, String whereCondition ) throws Exception
+    {
+        return selectInt(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.2.2 selectInt
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectInt is a function that returns a single integer value from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) integer value
+     */
+    public Integer selectInt(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectInt: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectInt: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectInt: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        CachedResult cached = lookupResult("selectInt", table_name, column_name, whereCondition);
+        if(cached.hit())
+            return (Integer) cached.value();
+
+        Integer integer = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            temp.next();
+            integer = temp.getInt(1);
+            cached.store(integer);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return integer;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.2.3 selectIntOrDefault
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectIntOrDefault is a function that returns a single integer value as a primitive from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param valueIfNull The value returned when the entry is NULL or no row matches the condition
+     * @return Returns a single (table-entry) integer value, or valueIfNull
+     */
+    public int selectIntOrDefault(String column_name, String whereCondition, int valueIfNull ) throws Exception
+    {
+        return selectIntOrDefault(column_name, whereCondition, this.tableName, valueIfNull);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.2.4 selectIntOrDefault
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectIntOrDefault is a function that returns a single integer value as a primitive from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * --> Note: unlike the boxed version NULL is reported by returning valueIfNull, so the value is returned without a wrapper object
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param valueIfNull The value returned when the entry is NULL or no row matches the condition
+     * @return Returns a single (table-entry) integer value, or valueIfNull
+     */
+    public int selectIntOrDefault(String column_name, String whereCondition, String table_name, int valueIfNull ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectIntOrDefault: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectIntOrDefault: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectIntOrDefault: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        int integer = valueIfNull;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            if(temp.next()) {
+                integer = temp.getInt(1);
+                if(temp.wasNull())
+                    integer = valueIfNull;
+            }
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return integer;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.3.1 selectBoolean
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBoolean is a function that returns a single boolean value from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) boolean value
+     */
+    public  Boolean selectBoolean(String column_name, String whereCondition ) throws Exception
+    {
+        return selectBoolean(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.3.2 updateInt
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBoolean is a function that returns a single boolean value from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) boolean value
+     */
+    public  Boolean selectBoolean(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectBoolean: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectBoolean: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectBoolean: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        CachedResult cached = lookupResult("selectBoolean", table_name, column_name, whereCondition);
+        if(cached.hit())
+            return (Boolean) cached.value();
+
+        Boolean bool = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            temp.next();
+            bool = temp.getBoolean(1);
+            cached.store(bool);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return bool;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.3.3 selectBooleanOrDefault
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBooleanOrDefault is a function that returns a single boolean value as a primitive from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param valueIfNull The value returned when the entry is NULL or no row matches the condition
+     * @return Returns a single (table-entry) boolean value, or valueIfNull
+     */
+    public boolean selectBooleanOrDefault(String column_name, String whereCondition, boolean valueIfNull ) throws Exception
+    {
+        return selectBooleanOrDefault(column_name, whereCondition, this.tableName, valueIfNull);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.3.4 selectBooleanOrDefault
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBooleanOrDefault is a function that returns a single boolean value as a primitive from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * --> Note: unlike the boxed version NULL is reported by returning valueIfNull, so the value is returned without a wrapper object
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param valueIfNull The value returned when the entry is NULL or no row matches the condition
+     * @return Returns a single (table-entry) boolean value, or valueIfNull
+     */
+    public boolean selectBooleanOrDefault(String column_name, String whereCondition, String table_name, boolean valueIfNull ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectBooleanOrDefault: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectBooleanOrDefault: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectBooleanOrDefault: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        boolean bool = valueIfNull;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            if(temp.next()) {
+                bool = temp.getBoolean(1);
+                if(temp.wasNull())
+                    bool = valueIfNull;
+            }
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return bool;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.4.1 selectFloat
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectFloat is a function that returns a single Float value from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Float value
+     */
+    public  Float selectFloat(String column_name, String whereCondition ) throws Exception
+    {
+        return selectFloat(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.4.2 selectFloat
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectFloat is a function that returns a single Float value from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Float value
+     */
+    public  Float selectFloat(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectFloat: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectFloat: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectFloat: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        CachedResult cached = lookupResult("selectFloat", table_name, column_name, whereCondition);
+        if(cached.hit())
+            return (Float) cached.value();
+
+        Float aFloat = null;
+        try ( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            temp.next();
+            aFloat =temp.getFloat(1);
+            cached.store(aFloat);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return aFloat;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.4.3 selectFloatOrDefault
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectFloatOrDefault is a function that returns a single Float value as a primitive from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param valueIfNull The value returned when the entry is NULL or no row matches the condition
+     * @return Returns a single (table-entry) Float value, or valueIfNull
+     */
+    public float selectFloatOrDefault(String column_name, String whereCondition, float valueIfNull ) throws Exception
+    {
+        return selectFloatOrDefault(column_name, whereCondition, this.tableName, valueIfNull);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.4.4 selectFloatOrDefault
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectFloatOrDefault is a function that returns a single Float value as a primitive from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * --> Note: unlike the boxed version NULL is reported by returning valueIfNull, so the value is returned without a wrapper object
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param valueIfNull The value returned when the entry is NULL or no row matches the condition
+     * @return Returns a single (table-entry) Float value, or valueIfNull
+     */
+    public float selectFloatOrDefault(String column_name, String whereCondition, String table_name, float valueIfNull ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectFloatOrDefault: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectFloatOrDefault: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectFloatOrDefault: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        float aFloat = valueIfNull;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            if(temp.next()) {
+                aFloat = temp.getFloat(1);
+                if(temp.wasNull())
+                    aFloat = valueIfNull;
+            }
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return aFloat;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.5.1 selectReal
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectReal is a function that returns a single Real value from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Real value
+     */
+    public Double selectReal(String column_name, String whereCondition ) throws Exception
+    {
+        return selectReal(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.5.2 selectReal
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectReal is a function that returns a single Real value from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Real value
+     */
+    public  Double selectReal(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectReal: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectReal: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectReal: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        CachedResult cached = lookupResult("selectReal", table_name, column_name, whereCondition);
+        if(cached.hit())
+            return (Double) cached.value();
+
+        Double real = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            temp.next();
+            real =temp.getDouble(1);
+            cached.store(real);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return real;
+    }
+
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.5.3 selectRealOrDefault
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectRealOrDefault is a function that returns a single Real value as a primitive from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param valueIfNull The value returned when the entry is NULL or no row matches the condition
+     * @return Returns a single (table-entry) Real value, or valueIfNull
+     */
+    public double selectRealOrDefault(String column_name, String whereCondition, double valueIfNull ) throws Exception
+    {
+        return selectRealOrDefault(column_name, whereCondition, this.tableName, valueIfNull);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.5.4 selectRealOrDefault
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectRealOrDefault is a function that returns a single Real value as a primitive from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * --> Note: unlike the boxed version NULL is reported by returning valueIfNull, so the value is returned without a wrapper object
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param valueIfNull The value returned when the entry is NULL or no row matches the condition
+     * @return Returns a single (table-entry) Real value, or valueIfNull
+     */
+    public double selectRealOrDefault(String column_name, String whereCondition, String table_name, double valueIfNull ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectRealOrDefault: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectRealOrDefault: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectRealOrDefault: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        double real = valueIfNull;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            if(temp.next()) {
+                real = temp.getDouble(1);
+                if(temp.wasNull())
+                    real = valueIfNull;
+            }
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return real;
+    }
+
+
+
+    // --> to do  --->
+    // --> to do  --->
+    // --> to do  --->
+    // --> to do  --->
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.6.1 selectImage
+
+    // --> to do  ---> rework this!!!!!
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectImage is a function that returns a single Image value from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Image value
+     */
+    public  String selectImage(String column_name, String whereCondition ) throws Exception
+    {
+        return selectImage(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.6.2 selectImage
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectImage is a function that returns a single Image value from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Image value
+     */
+    public  String selectImage(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectImage: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectImage: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectImage: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        CachedResult cached = lookupResult("selectImage", table_name, column_name, whereCondition);
+        if(cached.hit())
+            return (String) cached.value();
+
+        String image = null;
+        try ( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            temp.next();
+            image =temp.getString(1);
+            cached.store(image);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return image;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.6.3 selectImageTo
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectImageTo is a function that writes a single Image value into the specified file, from the table specified by current JavaSqlCommunication instance
+     * @param target The file the image is written to, created or overwritten
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns the number of bytes written, or -1 if the Image is NULL, no row matches or the select failed
+     */
+    public long selectImageTo(Path target, String column_name, String whereCondition ) throws Exception
+    {
+        return selectImageTo(target, column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.6.4 selectImageTo
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectImageTo is a function that writes a single Image value into the specified file
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * --> the Image is read in chunks by selectBlobStream (5.9.4) and handed to FileChannel.transferFrom, so it is never held on the heap as a whole
+     * --> Note: target is left untouched when -1 is returned, if the copy fails part way it may hold part of the Image
+     * @param target The file the image is written to, created or overwritten
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param table_name The name of the Table from where the value is selected
+     * @return Returns the number of bytes written, or -1 if the Image is NULL, no row matches or the select failed
+     */
+    public long selectImageTo(Path target, String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(target == null)
+            throw new IllegalStateException("selectImageTo: target is null");
+
+        try (InputStream image = selectBlobStream(column_name, whereCondition, table_name)) {
+            if(image == null)
+                return -1;
+            try (FileChannel file = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ReadableByteChannel source = Channels.newChannel(image);
+                long written = 0;
+                long count;
+                while((count = file.transferFrom(source, written, BLOB_CHUNK_SIZE)) > 0)
+                    written += count;
+                return written;
+            }
+        }
+    }
+
+
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.7.1  selectDate
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectDate is a function that returns a single Date value from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Date value
+     */
+    public  String selectDate(String column_name, String whereCondition ) throws Exception
+    {
+        return selectDate(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.7.2 selectDate
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectDate is a function that returns a single Date value from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Date value
+     */
+    public  String selectDate(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectDate: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectDate: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectDate: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        CachedResult cached = lookupResult("selectDate", table_name, column_name, whereCondition);
+        if(cached.hit())
+            return (String) cached.value();
+
+        String date = null;
+        try ( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            temp.next();
+            date =temp.getString(1);
+            cached.store(date);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return date;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.8.1 selectDateTime
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectDateTime is a function that returns a single DateTime value from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) DateTime value
+     */
+    public  String selectDateTime(String column_name, String whereCondition ) throws Exception
+    {
+        return selectDateTime(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.8.2 selectDateTime
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectDateTime is a function that returns a single DateTime value from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) DateTime value
+     */
+    public  String selectDateTime(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectDateTime: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectDateTime: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectDateTime: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        CachedResult cached = lookupResult("selectDateTime", table_name, column_name, whereCondition);
+        if(cached.hit())
+            return (String) cached.value();
+
+        String datetime = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            temp.next();
+            datetime =temp.getString(1);
+            cached.store(datetime);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return datetime;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.9.1 selectBlob
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBlob is a function that returns a single Blob value from the database, based specific table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Blob value
+     */
+    public  String selectBlob(String column_name, String whereCondition ) throws Exception
+    {
+        return selectBlob(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.9.2 selectBlob
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBlob is a function that returns a single Blob value from the database specified by current JavaSqlCommunication instance,
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * @param column_name The Column-name from where the value is selected
+     * @param table_name The name of the Table from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns a single (table-entry) Blob value
+     */
+    public  String selectBlob(String column_name, String whereCondition, String table_name ) throws Exception {
+        if(column_name == null)
+            throw new IllegalStateException("selectBlob: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectBlob: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectBlob: table_name is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+
+        CachedResult cached = lookupResult("selectBlob", table_name, column_name, whereCondition);
+        if(cached.hit())
+            return (String) cached.value();
+
+        String blob = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            temp.next();
+            blob =temp.getString(1);
+            cached.store(blob);
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return blob;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.9.3 selectBlobStream
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBlobStream is a function that returns a single Blob value as an InputStream of its bytes, from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @return Returns the bytes of the Blob, or null if it is NULL, no row matches or the select failed
+     */
+    public InputStream selectBlobStream(String column_name, String whereCondition ) throws Exception
+    {
+        return selectBlobStream(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.9.4 selectBlobStream
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBlobStream is a function that returns a single Blob value as an InputStream of its bytes, read BLOB_CHUNK_SIZE bytes at a time
+     * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * --> e.g  try (InputStream in = sql.selectBlobStream("data", "id=7", "files")) { Files.copy(in, target); }
+     * --> the stream runs "SELECT SUBSTRING(column, offset, BLOB_CHUNK_SIZE)" for each chunk as it is read, so only one chunk is on the heap
+     *     at a time however large the Blob is (the driver reads a whole row into memory, even when streaming rows)
+     * --> Note 1: the stream MUST be closed, it holds a connection until then
+     * --> Note 2: every chunk is read with its own query, if the row is changed while the stream is read the chunks may come from different versions,
+     *             read it inside inTransaction with Connection.TRANSACTION_REPEATABLE_READ (the MySQL default) to get one consistent version,
+     *             if the row is deleted (or its Blob set to NULL) between two chunks, read throws an IOException
+     * --> Note 3: the first matching row in id order is read (LIMIT 1), so the table needs the id column createTable adds,
+     *             and whereCondition should match a single row
+     * --> Note 4: the server loads the whole Blob to work out every SUBSTRING, so a Blob of n chunks is read n times on the server
+     *             (the work grows with the square of its size), only the network and the heap of this side are saved,
+     *             a Blob that fits in memory is cheaper to read with selectBlob
+     * @param column_name The Column-name from where the value is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param table_name The name of the Table from where the value is selected
+     * @return Returns the bytes of the Blob, or null if it is NULL, no row matches or the select failed
+     */
+    public InputStream selectBlobStream(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException("selectBlobStream: column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectBlobStream: whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectBlobStream: table_name is null");
+
+        Connection con = getConnection(this.databaseName);
+        if(con == null)
+            return null;
+        PreparedStatement posted = null;
+        try {
+            posted = prepareClientSide(con, "SELECT SUBSTRING(" + column_name + ", ?, " + BLOB_CHUNK_SIZE + ") FROM " + table_name
+                    + " WHERE " + whereCondition + " ORDER BY id LIMIT 1");
+            BlobInputStream blob = new BlobInputStream(con, posted);
+            if(blob.fill())
+                return blob;
+            blob.close();
+            return null;
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+            if(posted != null)
+                posted.close();
+            con.close();
+            return null;
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.9.5 BlobInputStream
+        //-------------------------------------------------------------------------------------
+    /**
+     * BlobInputStream is the stream returned by selectBlobStream, it reads the next chunk of the Blob when the previous one has been used up
+     */
+    private static class BlobInputStream extends InputStream {
+        private final Connection con;
+        private final PreparedStatement posted;
+        private byte[] chunk = new byte[0];
+        private int position;
+        private long offset = 1; // SUBSTRING counts from 1
+        private boolean last; // the chunk in hand is the end of the Blob
+        private boolean closed;
+
+        BlobInputStream(Connection con, PreparedStatement posted) {
+            this.con = con;
+            this.posted = posted;
+        }
+
+        // reads the chunk at offset, returns false if the Blob is NULL or no row matches
+        boolean fill() throws SQLException {
+            posted.setLong(1, offset);
+            try (ResultSet temp = posted.executeQuery()) {
+                byte[] bytes = temp.next() ? temp.getBytes(1) : null;
+                if(bytes == null) {
+                    chunk = new byte[0];
+                    last = true;
+                    return false;
+                }
+                chunk = bytes;
+                position = 0;
+                offset += bytes.length;
+                last = bytes.length < BLOB_CHUNK_SIZE;
+                return true;
+            }
+        }
+
+        private boolean hasBytes(String method) throws IOException {
+            if(closed)
+                throw new IOException("BlobInputStream: " + method + " after close");
+            if(position < chunk.length)
+                return true;
+            if(last)
+                return false;
+            boolean found;
+            try {
+                found = fill();
+            } catch (SQLException ex) {
+                throw new IOException("BlobInputStream: reading the next chunk failed", ex);
+            }
+            if(!found)
+                throw new IOException("BlobInputStream: the row was deleted, or its Blob set to NULL, while it was read");
+            return chunk.length > 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return hasBytes("read") ? chunk[position++] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int from, int length) throws IOException {
+            if(length == 0)
+                return 0;
+            if(!hasBytes("read"))
+                return -1;
+            int count = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, buffer, from, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return closed ? 0 : chunk.length - position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if(closed)
+                return;
+            closed = true;
+            chunk = new byte[0];
+            try {
+                posted.close();
+                con.close();
+            } catch (SQLException ex) {
+                throw new IOException("BlobInputStream: closing the connection failed", ex);
+            }
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.11 setSelectFetchSize
+        //-------------------------------------------------------------------------------------
+    /**
+     * setSelectFetchSize is a function that sets how many rows the multi-row selects (selectTextList, selectIntList, ..., selectRows) ask the driver to fetch per round trip
+     * --> Note: MySQL only fetches in pieces when the url has useCursorFetch=true (e.g jdbc:mysql://localhost:3306?useCursorFetch=true),
+     *           otherwise the whole result is read at once and this setting has no effect, 0 (the default) leaves it to the driver
+     * @param fetchSize The number of rows per fetch, 0 or more
+     */
+    public void setSelectFetchSize(int fetchSize) {
+        if(fetchSize < 0)
+            throw new IllegalArgumentException("setSelectFetchSize: fetchSize is negative");
+        this.selectFetchSize = fetchSize;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.12 setSelectMaxRows
+        //-------------------------------------------------------------------------------------
+    /**
+     * setSelectMaxRows is a function that sets the most rows a multi-row select may return (DEFAULT_SELECT_MAX_ROWS unless changed)
+     * --> if more rows match, the select throws an IllegalStateException instead of filling the heap or silently returning only part of the rows
+     * --> the limit is also sent to the server (setMaxRows), so the server stops after maxRows + 1 rows
+     * @param maxRows The most rows returned by one select, at least 1
+     */
+    public void setSelectMaxRows(int maxRows) {
+        if(maxRows < 1 || maxRows == Integer.MAX_VALUE)
+            throw new IllegalArgumentException("setSelectMaxRows: maxRows must be between 1 and " + (Integer.MAX_VALUE - 1));
+        this.selectMaxRows = maxRows;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.13 selectList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectList is the function behind selectTextList, selectIntList, ... it reads the first column of every row that matches whereCondition with one query
+     * --> Note: a NULL in the database is returned as a null element of the list
+     * @param reader Reads the value of the current row
+     * @return Returns every value, in the order the database returned them, or null if the select failed
+     */
+    private <T> List<T> selectList(String method, String column_name, String whereCondition, String table_name, ColumnReader<T> reader) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException(method + ": column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(method + ": whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException(method + ": table_name is null");
+
+        List<T> values = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = boundedSelect(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            List<T> read = new ArrayList<>();
+            while(temp.next()) {
+                checkRowLimit(method, read.size());
+                T value = reader.read(temp);
+                read.add(temp.wasNull() ? null : value);
+            }
+            values = read;
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return values;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.13.1 boundedSelect
+        //-------------------------------------------------------------------------------------
+    /**
+     * boundedSelect is a function that prepares a multi-row select with the fetch size and the row limit of this JavaSqlCommunication instance
+     * --> the server is asked for one row more than the limit, so checkRowLimit can tell "exactly maxRows" from "too many"
+     */
+    private PreparedStatement boundedSelect(Connection con, String sql) throws SQLException {
+        PreparedStatement posted = prepareClientSide(con, sql);
+        posted.setMaxRows(selectMaxRows + 1);
+        if(selectFetchSize > 0)
+            posted.setFetchSize(selectFetchSize);
+        return posted;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.13.2 checkRowLimit
+        //-------------------------------------------------------------------------------------
+    /**
+     * checkRowLimit is a function that throws an IllegalStateException when a select is about to read one row more than selectMaxRows
+     */
+    private void checkRowLimit(String method, int rowsRead) {
+        if(rowsRead >= selectMaxRows)
+            throw new IllegalStateException(method + ": more than " + selectMaxRows + " rows match, narrow the whereCondition or raise setSelectMaxRows");
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.13.3 ColumnReader
+        //-------------------------------------------------------------------------------------
+    /**
+     * ColumnReader reads the value of the first column of the current row of a ResultSet
+     */
+    private interface ColumnReader<T> {
+        T read(ResultSet row) throws SQLException;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.14.1 selectTextList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectTextList is a function that returns the Text values of every row that matches whereCondition, from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns a list with one text value per matching row (null for NULL), or null if the select failed
+     */
+    public List<String> selectTextList(String column_name, String whereCondition ) throws Exception
+    {
+        return selectTextList(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.14.2 selectTextList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectTextList is a function that returns the Text values of every row that matches whereCondition, with one query
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: at most selectMaxRows rows are returned, see setSelectMaxRows and setSelectFetchSize
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns a list with one text value per matching row (null for NULL), or null if the select failed
+     */
+    public List<String> selectTextList(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        return selectList("selectTextList", column_name, whereCondition, table_name, row -> row.getString(1));
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.15.1 selectIntList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectIntList is a function that returns the Integer values of every row that matches whereCondition, from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns a list with one integer value per matching row (null for NULL), or null if the select failed
+     */
+    public List<Integer> selectIntList(String column_name, String whereCondition ) throws Exception
+    {
+        return selectIntList(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.15.2 selectIntList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectIntList is a function that returns the Integer values of every row that matches whereCondition, with one query
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: at most selectMaxRows rows are returned, see setSelectMaxRows and setSelectFetchSize
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns a list with one integer value per matching row (null for NULL), or null if the select failed
+     */
+    public List<Integer> selectIntList(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        return selectList("selectIntList", column_name, whereCondition, table_name, row -> row.getInt(1));
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.16.1 selectBooleanList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBooleanList is a function that returns the Boolean values of every row that matches whereCondition, from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns a list with one boolean value per matching row (null for NULL), or null if the select failed
+     */
+    public List<Boolean> selectBooleanList(String column_name, String whereCondition ) throws Exception
+    {
+        return selectBooleanList(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.16.2 selectBooleanList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBooleanList is a function that returns the Boolean values of every row that matches whereCondition, with one query
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: at most selectMaxRows rows are returned, see setSelectMaxRows and setSelectFetchSize
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns a list with one boolean value per matching row (null for NULL), or null if the select failed
+     */
+    public List<Boolean> selectBooleanList(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        return selectList("selectBooleanList", column_name, whereCondition, table_name, row -> row.getBoolean(1));
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.17.1 selectFloatList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectFloatList is a function that returns the Float values of every row that matches whereCondition, from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns a list with one float value per matching row (null for NULL), or null if the select failed
+     */
+    public List<Float> selectFloatList(String column_name, String whereCondition ) throws Exception
+    {
+        return selectFloatList(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.17.2 selectFloatList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectFloatList is a function that returns the Float values of every row that matches whereCondition, with one query
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: at most selectMaxRows rows are returned, see setSelectMaxRows and setSelectFetchSize
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns a list with one float value per matching row (null for NULL), or null if the select failed
+     */
+    public List<Float> selectFloatList(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        return selectList("selectFloatList", column_name, whereCondition, table_name, row -> row.getFloat(1));
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.18.1 selectRealList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectRealList is a function that returns the Real (double) values of every row that matches whereCondition, from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns a list with one real value per matching row (null for NULL), or null if the select failed
+     */
+    public List<Double> selectRealList(String column_name, String whereCondition ) throws Exception
+    {
+        return selectRealList(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.18.2 selectRealList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectRealList is a function that returns the Real (double) values of every row that matches whereCondition, with one query
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: at most selectMaxRows rows are returned, see setSelectMaxRows and setSelectFetchSize
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns a list with one real value per matching row (null for NULL), or null if the select failed
+     */
+    public List<Double> selectRealList(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        return selectList("selectRealList", column_name, whereCondition, table_name, row -> row.getDouble(1));
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.19.1 selectDateList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectDateList is a function that returns the Date values of every row that matches whereCondition, from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns a list with one date value per matching row (null for NULL), or null if the select failed
+     */
+    public List<String> selectDateList(String column_name, String whereCondition ) throws Exception
+    {
+        return selectDateList(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.19.2 selectDateList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectDateList is a function that returns the Date values of every row that matches whereCondition, with one query
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: at most selectMaxRows rows are returned, see setSelectMaxRows and setSelectFetchSize
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns a list with one date value per matching row (null for NULL), or null if the select failed
+     */
+    public List<String> selectDateList(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        return selectList("selectDateList", column_name, whereCondition, table_name, row -> row.getString(1));
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.20.1 selectDateTimeList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectDateTimeList is a function that returns the DateTime values of every row that matches whereCondition, from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns a list with one datetime value per matching row (null for NULL), or null if the select failed
+     */
+    public List<String> selectDateTimeList(String column_name, String whereCondition ) throws Exception
+    {
+        return selectDateTimeList(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.20.2 selectDateTimeList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectDateTimeList is a function that returns the DateTime values of every row that matches whereCondition, with one query
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: at most selectMaxRows rows are returned, see setSelectMaxRows and setSelectFetchSize
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns a list with one datetime value per matching row (null for NULL), or null if the select failed
+     */
+    public List<String> selectDateTimeList(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        return selectList("selectDateTimeList", column_name, whereCondition, table_name, row -> row.getString(1));
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.21.1 selectBlobList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBlobList is a function that returns the Blob values of every row that matches whereCondition, from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns a list with one blob value per matching row (null for NULL), or null if the select failed
+     */
+    public List<String> selectBlobList(String column_name, String whereCondition ) throws Exception
+    {
+        return selectBlobList(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.21.2 selectBlobList
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBlobList is a function that returns the Blob values of every row that matches whereCondition, with one query
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: at most selectMaxRows rows are returned, see setSelectMaxRows and setSelectFetchSize
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns a list with one blob value per matching row (null for NULL), or null if the select failed
+     */
+    public List<String> selectBlobList(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        return selectList("selectBlobList", column_name, whereCondition, table_name, row -> row.getString(1));
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.22 selectRows
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectRows is a function that returns every row that matches whereCondition, with one query
+     * --> each row is an Object[] with one element per column, in the order the columns were given, as returned by ResultSet.getObject
+     * --> Note 1: with no columnnames every column of the table is returned (SELECT *)
+     * --> Note 2: at most selectMaxRows rows are returned, see setSelectMaxRows and setSelectFetchSize
+     * @param table_name The name of the Table from where the rows are selected
+     * @param whereCondition The Condition that a row must meet to be returned
+     * @param columnnames The Column-names to return
+     * @return Returns a list with one Object[] per matching row, or null if the select failed
+     */
+    public List<Object[]> selectRows(String table_name, String whereCondition, String... columnnames) throws Exception
+    {
+        if(table_name == null)
+            throw new IllegalStateException("selectRows: table_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectRows: whereCondition is null");
+        if(columnnames == null)
+            throw new IllegalStateException("selectRows: columnnames is null");
+        checkNoNulls("selectRows", Arrays.asList(columnnames));
+        String columns = columnnames.length == 0 ? "*" : String.join(", ", columnnames);
+
+        List<Object[]> rows = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = boundedSelect(con, "SELECT " + columns + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            int width = temp.getMetaData().getColumnCount();
+            List<Object[]> read = new ArrayList<>();
+            while(temp.next()) {
+                checkRowLimit("selectRows", read.size());
+                Object[] row = new Object[width];
+                for(int column = 0; column < width; column++)
+                    row[column] = temp.getObject(column + 1);
+                read.add(row);
+            }
+            rows = read;
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return rows;
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.23 selectCursor
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectCursor is a function that returns the rows that match whereCondition one at a time, as they arrive from the server,
+     * so memory use stays the same whether 10 rows or 10 million rows match (for exports and other full-table reads)
+     * --> e.g  try (RowCursor cursor = sql.selectCursor("orders", "1=1", "id", "total")) { while(cursor.hasNext()) write(cursor.next()); }
+     *     or   try (Stream<Object[]> rows = sql.selectCursor("orders", "1=1").stream()) { rows.forEach(...); }
+     * --> each row is an Object[] with one element per column, as in selectRows
+     * --> Note 1: the cursor MUST be closed (try-with-resources), it holds its own connection until then,
+     *             closing it before the last row cancels the query on the server instead of reading the remaining rows,
+     *             and that connection is then closed instead of going back to the pool (see cancelStreaming)
+     * --> Note 2: rows are streamed (fetch size Integer.MIN_VALUE), the connection can not run any other statement until the cursor is closed,
+     *             so do not use selectCursor inside inTransaction if the transaction runs other statements while reading,
+     *             inside inTransaction closing early reads the remaining rows instead, the transaction's connection can not be discarded
+     * --> Note 3: selectMaxRows does not apply to cursors
+     * @param table_name The name of the Table from where the rows are selected
+     * @param whereCondition The Condition that a row must meet to be returned
+     * @param columnnames The Column-names to return, none for every column
+     * @return Returns an open cursor over the matching rows, or null if the select failed
+     */
+    public RowCursor selectCursor(String table_name, String whereCondition, String... columnnames) throws Exception
+    {
+        if(table_name == null)
+            throw new IllegalStateException("selectCursor: table_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectCursor: whereCondition is null");
+        if(columnnames == null)
+            throw new IllegalStateException("selectCursor: columnnames is null");
+        checkNoNulls("selectCursor", Arrays.asList(columnnames));
+        String columns = columnnames.length == 0 ? "*" : String.join(", ", columnnames);
+
+        Connection con = getConnection(this.databaseName);
+        if(con == null)
+            return null;
+        PreparedStatement posted = null;
+        try {
+            posted = streamingSelect(con, "SELECT " + columns + " FROM " + table_name + " WHERE " + whereCondition);
+            return new RowCursor(con, posted, posted.executeQuery());
+        } catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+            if(posted != null)
+                posted.close();
+            con.close();
+            return null;
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.23.1 RowCursor
+        //-------------------------------------------------------------------------------------
+    /**
+     * RowCursor is the open result of selectCursor, an Iterator over its rows that has to be closed
+     * --> if reading a row fails, the SQLException is printed and thrown wrapped in an IllegalStateException, and the cursor is closed
+     */
+    public class RowCursor implements Iterator<Object[]>, AutoCloseable {
+        private final Connection con;
+        private final PreparedStatement posted;
+        private final ResultSet rows;
+        private final int width;
+        private final boolean inTransaction; // the connection is the transaction's, it can not be discarded
+        private long rowsRead;
+        private boolean advanced; // rows.next() has been called for the row next() will return
+        private boolean hasRow;
+        private boolean exhausted; // the server has sent every row
+        private boolean closed;
+
+        private RowCursor(Connection con, PreparedStatement posted, ResultSet rows) throws SQLException {
+            this.con = con;
+            this.posted = posted;
+            this.rows = rows;
+            this.width = rows.getMetaData().getColumnCount();
+            this.inTransaction = currentTransaction.get() != null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(closed)
+                return false;
+            if(!advanced) {
+                try {
+                    hasRow = rows.next();
+                } catch (SQLException ex) {
+                    throw failed(ex);
+                }
+                advanced = true;
+                if(!hasRow) {
+                    exhausted = true;
+                    close();
+                }
+            }
+            return hasRow;
+        }
+
+        @Override
+        public Object[] next() {
+            if(!hasNext())
+                throw new NoSuchElementException("RowCursor: no more rows");
+            advanced = false;
+            Object[] row = new Object[width];
+            try {
+                for(int column = 0; column < width; column++)
+                    row[column] = rows.getObject(column + 1);
+            } catch (SQLException ex) {
+                throw failed(ex);
+            }
+            rowsRead++;
+            return row;
+        }
+
+        /**
+         * stream is a function that returns the rows of this cursor as a sequential Stream, closing the Stream closes the cursor
+         */
+        public Stream<Object[]> stream() {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(this::close);
+        }
+
+        /**
+         * getRowsRead is a function that returns how many rows next() has returned so far
+         */
+        public long getRowsRead() {
+            return rowsRead;
+        }
+
+        /**
+         * close is a function that ends the select and gives the connection back, it can be called any number of times
+         * --> if rows are still coming, the query is cancelled on the server first and the connection is closed instead of given back,
+         *     so closing early does not read the rest of the result
+         */
+        @Override
+        public void close() {
+            if(closed)
+                return;
+            closed = true;
+            hasRow = false;
+            if(!exhausted && !inTransaction)
+                cancelStreaming(con, posted);
+            try {
+                rows.close();
+            } catch (SQLException ignored) {
+                // a cancelled query ends its result with "Query execution was interrupted", an aborted connection is already closed
+            }
+            try {
+                posted.close();
+                con.close();
+            } catch (SQLException ex) {
+                System.out.println("SQLException: " + ex.getMessage());
+                System.out.println("SQLState: " + ex.getSQLState());
+                System.out.println("VendorError: " + ex.getErrorCode());
+            }
+        }
+
+        private IllegalStateException failed(SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+            close();
+            return new IllegalStateException("RowCursor: reading a row failed", ex);
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.24 scanColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * scanColumn is the function behind selectIntColumn, selectRealColumn, ... it streams the first column of every row that matches whereCondition
+     * into sink, row by row, so no row objects or boxed values are kept
+     * @return Returns true if every row was read, false if the select failed (the SQLException is printed)
+     */
+    private boolean scanColumn(String method, String column_name, String whereCondition, String table_name, ColumnSink sink) throws Exception
+    {
+        if(column_name == null)
+            throw new IllegalStateException(method + ": column_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(method + ": whereCondition is null");
+        if(table_name == null)
+            throw new IllegalStateException(method + ": table_name is null");
+
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = streamingSelect(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            while(temp.next())
+                sink.accept(temp);
+            return true;
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return false;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.24.1 streamingSelect
+        //-------------------------------------------------------------------------------------
+    /**
+     * streamingSelect is a function that prepares a forward-only, read-only select whose rows the driver hands over one at a time
+     * as they arrive (fetch size Integer.MIN_VALUE) instead of reading the whole result into memory first
+     */
+    private static PreparedStatement streamingSelect(Connection con, String sql) throws SQLException {
+        PreparedStatement posted = prepareClientSide(con, sql); // forward-only and read-only, as streaming requires
+        posted.setFetchSize(Integer.MIN_VALUE);
+        return posted;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.24.3 cancelStreaming
+        //-------------------------------------------------------------------------------------
+    /**
+     * cancelStreaming is a function that stops a streaming select before all of its rows have been read, and throws its connection away
+     * --> Note: Connector/J cancels with "KILL QUERY <connection id>" sent on a second connection, if the query has already finished
+     *           by the time it arrives the KILL interrupts whatever that connection runs next, so the connection is aborted
+     *           (a pooled connection is then dropped when it is closed, instead of being given back for the next caller)
+     */
+    private static void cancelStreaming(Connection con, Statement posted) {
+        try {
+            posted.cancel();
+        } catch (SQLException ignored) {
+            // the connection is aborted below either way, which also ends the query
+        }
+        try {
+            con.abort(Runnable::run);
+        } catch (SQLException ignored) {
+            // could not abort, closing the result reads the remaining rows instead
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.24.2 ColumnSink
+        //-------------------------------------------------------------------------------------
+    /**
+     * ColumnSink takes the value of the first column of the current row of a ResultSet
      */
-    public void updateImage(String input_imageURL, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_imageURL == null)
-            throw new IllegalStateException(" updateImage: input_value is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateImage: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateImage: tablename is null");
+    private interface ColumnSink {
+        void accept(ResultSet row) throws SQLException;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.25.1 selectIntColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectIntColumn is a function that returns the Integer value of every row that matches whereCondition as one IntColumn (an int[] plus a null bitmap),
+     * from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns the values, or null if the select failed
+     */
+    public IntColumn selectIntColumn(String column_name, String whereCondition ) throws Exception
+    {
+        return selectIntColumn(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.25.2 selectIntColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectIntColumn is a function that returns the Integer value of every row that matches whereCondition as one IntColumn (an int[] plus a null bitmap)
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: the rows are streamed from the server and each value goes straight into the int[], nothing is boxed,
+     *           so a column of 10 million rows costs 40MB (+ the null bitmap) no matter how it was stored, selectMaxRows does not apply
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns the values, or null if the select failed
+     */
+    public IntColumn selectIntColumn(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        IntColumn column = new IntColumn();
+        if(!scanColumn("selectIntColumn", column_name, whereCondition, table_name, row -> {
+            int value = row.getInt(1);
+            column.add(value, row.wasNull());
+        }))
+            return null;
+        return column;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.26.1 selectRealColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectRealColumn is a function that returns the Real value of every row that matches whereCondition as one DoubleColumn (a double[] plus a null bitmap),
+     * from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns the values, or null if the select failed
+     */
+    public DoubleColumn selectRealColumn(String column_name, String whereCondition ) throws Exception
+    {
+        return selectRealColumn(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.26.2 selectRealColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectRealColumn is a function that returns the Real value of every row that matches whereCondition as one DoubleColumn (a double[] plus a null bitmap)
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: the rows are streamed and nothing is boxed (see selectIntColumn)
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns the values, or null if the select failed
+     */
+    public DoubleColumn selectRealColumn(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        DoubleColumn column = new DoubleColumn();
+        if(!scanColumn("selectRealColumn", column_name, whereCondition, table_name, row -> {
+            double value = row.getDouble(1);
+            column.add(value, row.wasNull());
+        }))
+            return null;
+        return column;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.27.1 selectFloatColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectFloatColumn is a function that returns the Float value of every row that matches whereCondition as one FloatColumn (a float[] plus a null bitmap),
+     * from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns the values, or null if the select failed
+     */
+    public FloatColumn selectFloatColumn(String column_name, String whereCondition ) throws Exception
+    {
+        return selectFloatColumn(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.27.2 selectFloatColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectFloatColumn is a function that returns the Float value of every row that matches whereCondition as one FloatColumn (a float[] plus a null bitmap)
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: the rows are streamed and nothing is boxed (see selectIntColumn)
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns the values, or null if the select failed
+     */
+    public FloatColumn selectFloatColumn(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        FloatColumn column = new FloatColumn();
+        if(!scanColumn("selectFloatColumn", column_name, whereCondition, table_name, row -> {
+            float value = row.getFloat(1);
+            column.add(value, row.wasNull());
+        }))
+            return null;
+        return column;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.28.1 selectBooleanColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBooleanColumn is a function that returns the Boolean value of every row that matches whereCondition as one BooleanColumn (a bitmap of values plus a null bitmap),
+     * from the table specified by current JavaSqlCommunication instance
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @return Returns the values, or null if the select failed
+     */
+    public BooleanColumn selectBooleanColumn(String column_name, String whereCondition ) throws Exception
+    {
+        return selectBooleanColumn(column_name, whereCondition, this.tableName);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.28.2 selectBooleanColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectBooleanColumn is a function that returns the Boolean value of every row that matches whereCondition as one BooleanColumn (a bitmap of values plus a null bitmap)
+     * NOTE: This method allows the user to specify the table where the values should be obtained from
+     * --> Note: the rows are streamed and nothing is boxed (see selectIntColumn)
+     * @param column_name The Column-name from where the values are selected
+     * @param whereCondition The Condition that a row must meet for its value to be returned
+     * @param table_name The name of the Table from where the values are selected
+     * @return Returns the values, or null if the select failed
+     */
+    public BooleanColumn selectBooleanColumn(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        BooleanColumn column = new BooleanColumn();
+        if(!scanColumn("selectBooleanColumn", column_name, whereCondition, table_name, row -> {
+            boolean value = row.getBoolean(1);
+            column.add(value, row.wasNull());
+        }))
+            return null;
+        return column;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.29 PrimitiveColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * PrimitiveColumn is what IntColumn, DoubleColumn, FloatColumn and BooleanColumn have in common: the number of rows and which of them were NULL
+     * --> row i of the column is the i-th row returned by the select, a NULL row holds 0 (false) in the value array and is set in the null bitmap
+     */
+    public abstract static class PrimitiveColumn {
+        static final int INITIAL_CAPACITY = 1024;
+        final BitSet nulls = new BitSet();
+        int size;
+
+        /**
+         * size is a function that returns how many rows the column has (NULL rows included)
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * isNull is a function that returns true if the value of the row was NULL in the database
+         */
+        public boolean isNull(int row) {
+            checkRow(row);
+            return nulls.get(row);
+        }
+
+        /**
+         * nullCount is a function that returns how many rows were NULL
+         */
+        public int nullCount() {
+            return nulls.cardinality();
+        }
+
+        /**
+         * nulls is a function that returns a copy of the null bitmap, bit i is set when row i was NULL
+         */
+        public BitSet nulls() {
+            return (BitSet) nulls.clone();
+        }
+
+        void checkRow(int row) {
+            if(row < 0 || row >= size)
+                throw new IndexOutOfBoundsException("row " + row + " of a column with " + size + " rows");
+        }
+
+        // grows a value array by half (at least to INITIAL_CAPACITY) when it is full
+        static int grownCapacity(int capacity) {
+            if(capacity == Integer.MAX_VALUE - 8)
+                throw new OutOfMemoryError("column has too many rows");
+            return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(INITIAL_CAPACITY, (long) capacity + (capacity >> 1)));
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.29.1 IntColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * IntColumn is a column of int values returned by selectIntColumn
+     */
+    public static class IntColumn extends PrimitiveColumn {
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        void add(int value, boolean isNull) {
+            if(size == values.length)
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            if(isNull)
+                nulls.set(size);
+            values[size++] = value;
+        }
+
+        /**
+         * get is a function that returns the value of row (0 if it was NULL, see isNull)
+         */
+        public int get(int row) {
+            checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * toArray is a function that returns a copy of the values, one per row, NULL rows hold 0
+         */
+        public int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        /**
+         * stream is a function that returns the values of the rows that are not NULL, in row order
+         */
+        public IntStream stream() {
+            int[] snapshot = values;
+            return IntStream.range(0, size).filter(row -> !nulls.get(row)).map(row -> snapshot[row]);
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.29.2 DoubleColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * DoubleColumn is a column of double values returned by selectRealColumn
+     */
+    public static class DoubleColumn extends PrimitiveColumn {
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        void add(double value, boolean isNull) {
+            if(size == values.length)
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            if(isNull)
+                nulls.set(size);
+            values[size++] = value;
+        }
+
+        /**
+         * get is a function that returns the value of row (0 if it was NULL, see isNull)
+         */
+        public double get(int row) {
+            checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * toArray is a function that returns a copy of the values, one per row, NULL rows hold 0
+         */
+        public double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        /**
+         * stream is a function that returns the values of the rows that are not NULL, in row order
+         */
+        public DoubleStream stream() {
+            double[] snapshot = values;
+            return IntStream.range(0, size).filter(row -> !nulls.get(row)).mapToDouble(row -> snapshot[row]);
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.29.3 FloatColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * FloatColumn is a column of float values returned by selectFloatColumn, kept as a float[] (half the memory of a DoubleColumn)
+     */
+    public static class FloatColumn extends PrimitiveColumn {
+        private float[] values = new float[INITIAL_CAPACITY];
+
+        void add(float value, boolean isNull) {
+            if(size == values.length)
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            if(isNull)
+                nulls.set(size);
+            values[size++] = value;
+        }
+
+        /**
+         * get is a function that returns the value of row (0 if it was NULL, see isNull)
+         */
+        public float get(int row) {
+            checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * toArray is a function that returns a copy of the values, one per row, NULL rows hold 0
+         */
+        public float[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        /**
+         * stream is a function that returns the values of the rows that are not NULL, in row order, widened to double
+         */
+        public DoubleStream stream() {
+            float[] snapshot = values;
+            return IntStream.range(0, size).filter(row -> !nulls.get(row)).mapToDouble(row -> snapshot[row]);
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.29.4 BooleanColumn
+        //-------------------------------------------------------------------------------------
+    /**
+     * BooleanColumn is a column of boolean values returned by selectBooleanColumn, kept as a bitmap (one bit per row)
+     */
+    public static class BooleanColumn extends PrimitiveColumn {
+        private final BitSet values = new BitSet();
+
+        void add(boolean value, boolean isNull) {
+            if(isNull)
+                nulls.set(size);
+            if(value)
+                values.set(size);
+            size++;
+        }
+
+        /**
+         * get is a function that returns the value of row (false if it was NULL, see isNull)
+         */
+        public boolean get(int row) {
+            checkRow(row);
+            return values.get(row);
+        }
+
+        /**
+         * toArray is a function that returns a copy of the values, one per row, NULL rows hold false
+         */
+        public boolean[] toArray() {
+            boolean[] copy = new boolean[size];
+            for(int row = values.nextSetBit(0); row >= 0; row = values.nextSetBit(row + 1))
+                copy[row] = true;
+            return copy;
+        }
+
+        /**
+         * countTrue is a function that returns how many rows are true
+         */
+        public int countTrue() {
+            return values.cardinality();
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.30.1 selectInto
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectInto is a function that returns every row that matches whereCondition as an object of type, from the table specified by current JavaSqlCommunication instance
+     * @param type The record or POJO class each row is turned into (see 5.30.2)
+     * @param whereCondition The Condition that a row must meet to be returned
+     * @return Returns one object per matching row, or null if the select failed
+     */
+    public <T> List<T> selectInto(Class<T> type, String whereCondition) throws Exception
+    {
+        return selectInto(type, this.tableName, whereCondition);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.30.2 selectInto
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectInto is a function that returns every row that matches whereCondition as an object of type, reading all of its fields with one query
+     * --> e.g  List<Order> orders = sql.selectInto(Order.class, "orders", "customer = 7");
+     * --> each field is read from the column with the same name:
+     *        a record -> its components, passed to its canonical constructor
+     *        a POJO   -> its setters (setTotal -> column total), or its non-static, non-final fields if it has no setters, it needs a no-arg constructor
+     * --> Note 1: the constructor, setters and column readers of a type are looked up once and kept as MethodHandles,
+     *             every later row and every later call for the same type runs without reflection
+     * --> Note 2: a NULL column leaves a primitive field at 0 / false and sets an object field to null
+     * --> Note 3: at most selectMaxRows rows are returned, see setSelectMaxRows
+     * @param type The record or POJO class each row is turned into
+     * @param table_name The name of the Table from where the rows are selected
+     * @param whereCondition The Condition that a row must meet to be returned
+     * @return Returns one object per matching row, or null if the select failed
+     */
+    public <T> List<T> selectInto(Class<T> type, String table_name, String whereCondition) throws Exception
+    {
+        if(type == null)
+            throw new IllegalStateException("selectInto: type is null");
+        if(table_name == null)
+            throw new IllegalStateException("selectInto: table_name is null");
         if(whereCondition == null)
-            throw new IllegalStateException(" updateImage: whereCondition is null");
+            throw new IllegalStateException("selectInto: whereCondition is null");
+        RowMapper<T> mapper = RowMapper.of(type);
+
+        List<T> objects = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = boundedSelect(con, "SELECT " + mapper.columns + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery()
+        ){
+            List<T> read = new ArrayList<>();
+            while(temp.next()) {
+                checkRowLimit("selectInto", read.size());
+                read.add(mapper.map(temp));
+            }
+            objects = read;
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return objects;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.30.3 RowMapper
+        //-------------------------------------------------------------------------------------
+    /**
+     * RowMapper turns the current row of a ResultSet into an object of one record or POJO class, built once per class by RowMapper.of
+     * --> records are found through Class.isRecord/getRecordComponents called reflectively, so this file still compiles for Java 8
+     */
+    private static final class RowMapper<T> {
+        private static final ConcurrentHashMap<Class<?>, RowMapper<?>> MAPPERS = new ConcurrentHashMap<>();
+        private static final MethodType CONSTRUCT = MethodType.methodType(Object.class, Object[].class);
+        private static final MethodType SET = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final Class<T> type;
+        private final String columns; // "column1, column2, ..." in the order of readers
+        private final ValueReader[] readers;
+        private final boolean[] primitive; // a NULL can not be set on these, the field keeps its value
+        private final MethodHandle constructor; // (Object[]) -> Object, the record's components or nothing for a POJO
+        private final MethodHandle[] setters; // (Object, Object) -> void for a POJO, null for a record
+
+        private RowMapper(Class<T> type, List<String> names, List<Class<?>> types, MethodHandle constructor, MethodHandle[] setters) {
+            this.type = type;
+            this.columns = String.join(", ", names);
+            this.readers = new ValueReader[types.size()];
+            this.primitive = new boolean[types.size()];
+            for(int index = 0; index < readers.length; index++) {
+                readers[index] = ValueReader.of(types.get(index));
+                primitive[index] = types.get(index).isPrimitive();
+            }
+            this.constructor = constructor;
+            this.setters = setters;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> RowMapper<T> of(Class<T> type) {
+            return (RowMapper<T>) MAPPERS.computeIfAbsent(type, RowMapper::build);
+        }
+
+        T map(ResultSet row) throws SQLException {
+            try {
+                if(setters == null) {
+                    Object[] values = new Object[readers.length];
+                    for(int index = 0; index < readers.length; index++)
+                        values[index] = readers[index].read(row, index + 1);
+                    return type.cast((Object) constructor.invokeExact(values));
+                }
+                Object target = (Object) constructor.invokeExact(new Object[0]);
+                for(int index = 0; index < readers.length; index++) {
+                    Object value = readers[index].read(row, index + 1);
+                    if(value != null || !primitive[index]) // a NULL column overwrites an object field's initializer too
+                        setters[index].invokeExact(target, value);
+                }
+                return type.cast(target);
+            } catch (SQLException | RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("selectInto: could not create a " + type.getName(), ex);
+            }
+        }
+
+        private static RowMapper<?> build(Class<?> type) {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            List<String> names = new ArrayList<>();
+            List<Class<?>> types = new ArrayList<>();
+            try {
+                Object[] components = recordComponents(type);
+                if(components != null) {
+                    for(Object component : components) {
+                        names.add((String) component.getClass().getMethod("getName").invoke(component));
+                        types.add((Class<?>) component.getClass().getMethod("getType").invoke(component));
+                    }
+                    Constructor<?> canonical = type.getDeclaredConstructor(types.toArray(new Class<?>[0]));
+                    canonical.setAccessible(true);
+                    MethodHandle constructor = lookup.unreflectConstructor(canonical).asSpreader(Object[].class, types.size()).asType(CONSTRUCT);
+                    return new RowMapper<>(type, names, types, constructor, null);
+                }
+
+                Constructor<?> noArgs = type.getDeclaredConstructor();
+                noArgs.setAccessible(true);
+                MethodHandle constructor = MethodHandles.dropArguments(lookup.unreflectConstructor(noArgs), 0, Object[].class).asType(CONSTRUCT);
+                List<MethodHandle> setters = new ArrayList<>();
+                for(Method method : type.getMethods()) {
+                    if(Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1 || method.getName().length() < 4 || !method.getName().startsWith("set"))
+                        continue;
+                    names.add(Character.toLowerCase(method.getName().charAt(3)) + method.getName().substring(4));
+                    types.add(method.getParameterTypes()[0]);
+                    setters.add(lookup.unreflect(method).asType(SET));
+                }
+                if(setters.isEmpty()) {
+                    for(Class<?> declaring = type; declaring != null && declaring != Object.class; declaring = declaring.getSuperclass()) {
+                        for(Field field : declaring.getDeclaredFields()) {
+                            int modifiers = field.getModifiers();
+                            if(Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic())
+                                continue;
+                            field.setAccessible(true);
+                            names.add(field.getName());
+                            types.add(field.getType());
+                            setters.add(lookup.unreflectSetter(field).asType(SET));
+                        }
+                    }
+                }
+                if(setters.isEmpty())
+                    throw new IllegalArgumentException("selectInto: " + type.getName() + " has no setters or fields to fill");
+                return new RowMapper<>(type, names, types, constructor, setters.toArray(new MethodHandle[0]));
+            } catch (NoSuchMethodException ex) {
+                throw new IllegalArgumentException("selectInto: " + type.getName() + " is not a record and has no no-arg constructor", ex);
+            } catch (ReflectiveOperationException | SecurityException ex) {
+                throw new IllegalArgumentException("selectInto: " + type.getName() + " can not be mapped", ex);
+            }
+        }
+
+        // the RecordComponent[] of a record class, null for any other class (and always null before Java 16)
+        private static Object[] recordComponents(Class<?> type) throws ReflectiveOperationException {
+            Method isRecord;
+            try {
+                isRecord = Class.class.getMethod("isRecord");
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+            if(!(Boolean) isRecord.invoke(type))
+                return null;
+            return (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.30.4 ValueReader
+        //-------------------------------------------------------------------------------------
+    /**
+     * ValueReader reads one column of the current row as the Java type of a field, chosen once per field by ValueReader.of
+     * --> for a primitive field a NULL column is read as 0 / false, for any other field as null
+     */
+    private interface ValueReader {
+        Object read(ResultSet row, int column) throws SQLException;
+
+        static ValueReader of(Class<?> type) {
+            if(type == int.class)
+                return (row, column) -> row.getInt(column);
+            if(type == long.class)
+                return (row, column) -> row.getLong(column);
+            if(type == double.class)
+                return (row, column) -> row.getDouble(column);
+            if(type == float.class)
+                return (row, column) -> row.getFloat(column);
+            if(type == boolean.class)
+                return (row, column) -> row.getBoolean(column);
+            if(type == short.class)
+                return (row, column) -> row.getShort(column);
+            if(type == byte.class)
+                return (row, column) -> row.getByte(column);
+            if(type == String.class)
+                return (row, column) -> row.getString(column);
+            if(type == byte[].class)
+                return (row, column) -> row.getBytes(column);
+            if(type == Object.class)
+                return (row, column) -> row.getObject(column);
+            return (row, column) -> row.getObject(column, type);
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.31 selectRow
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectRow is a function that reads several columns of the row that matches whereCondition with one query, instead of one selectX call (and one query) per column
+     * --> e.g  Row row = sql.selectRow("users", "id=7", "name", "age", "joined");
+     *          String name = row.getText("name");  Integer age = row.getInt("age");  String joined = row.getDate("joined");
+     * --> Note 1: with no columnnames every column of the table is read (SELECT *)
+     * --> Note 2: which position each column name has, and which columns are DATE/DATETIME (read as text, like selectDate), is worked out
+     *             the first time a column set is selected and kept, later calls with the same table and columns only read the values
+     * --> Note 3: only the first row is asked for (setMaxRows(1)), so a whereCondition matching many rows does not read them all into memory
+     * @param table_name The name of the Table from where the row is selected
+     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * @param columnnames The Column-names to read
+     * @return Returns the first matching row, or null if no row matches or the select failed
+     */
+    public Row selectRow(String table_name, String whereCondition, String... columnnames) throws Exception
+    {
+        if(table_name == null)
+            throw new IllegalStateException("selectRow: table_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("selectRow: whereCondition is null");
+        if(columnnames == null)
+            throw new IllegalStateException("selectRow: columnnames is null");
+        checkNoNulls("selectRow", Arrays.asList(columnnames));
+        String columns = columnnames.length == 0 ? "*" : String.join(", ", columnnames);
+        String layoutKey = table_name + '\u0000' + columns;
+
+        Row row = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + columns + " FROM " + table_name + " WHERE " + whereCondition)
+        ){
+            posted.setMaxRows(1);
+            try (ResultSet temp = posted.executeQuery()) {
+                if(temp.next()) {
+                    RowLayout layout = rowLayouts.get(layoutKey);
+                    if(layout == null || layout.labels.length != temp.getMetaData().getColumnCount()) { // rebuilt if columns were added to the table since
+                        layout = new RowLayout(temp.getMetaData(), columnnames);
+                        rowLayouts.put(layoutKey, layout);
+                    }
+                    row = layout.read(temp);
+                }
+            }
+        }catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+        return row;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.31.1 RowLayout
+        //-------------------------------------------------------------------------------------
+    /**
+     * RowLayout is what selectRow keeps per (table, column set): the position of each column name and how each column is read
+     */
+    private static final class RowLayout {
+        private final Map<String, Integer> positions = new HashMap<>(); // column name (as asked for and as labelled by the server) -> 0-based position
+        private final String[] labels;
+        private final boolean[] asText; // DATE, TIME, DATETIME and TIMESTAMP columns are read with getString, like selectDate and selectDateTime
+
+        RowLayout(ResultSetMetaData meta, String[] columnnames) throws SQLException {
+            int width = meta.getColumnCount();
+            labels = new String[width];
+            asText = new boolean[width];
+            for(int column = 0; column < width; column++) {
+                labels[column] = meta.getColumnLabel(column + 1);
+                positions.putIfAbsent(labels[column], column);
+                if(column < columnnames.length)
+                    positions.putIfAbsent(columnnames[column], column);
+                int type = meta.getColumnType(column + 1);
+                asText[column] = type == Types.DATE || type == Types.TIME || type == Types.TIMESTAMP;
+            }
+        }
+
+        Row read(ResultSet temp) throws SQLException {
+            Object[] values = new Object[labels.length];
+            for(int column = 0; column < values.length; column++)
+                values[column] = asText[column] ? temp.getString(column + 1) : temp.getObject(column + 1);
+            return new Row(this, values);
+        }
+
+        int position(String columnname) {
+            Integer position = positions.get(columnname);
+            if(position != null)
+                return position;
+            for(Map.Entry<String, Integer> known : positions.entrySet())
+                if(known.getKey().equalsIgnoreCase(columnname))
+                    return known.getValue();
+            throw new IllegalArgumentException("Row: there is no column " + columnname + " in " + Arrays.toString(labels));
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.31.2 Row
+        //-------------------------------------------------------------------------------------
+    /**
+     * Row is one row read by selectRow, its getters take the column name and return null when the column was NULL
+     * --> the getters convert like the matching selectX method would, e.g getInt on a BIGINT or DECIMAL column, getText on any column
+     */
+    public static final class Row {
+        private final RowLayout layout;
+        private final Object[] values;
+
+        private Row(RowLayout layout, Object[] values) {
+            this.layout = layout;
+            this.values = values;
+        }
+
+        /**
+         * get is a function that returns the value of the column as the driver returned it (DATE/DATETIME columns as text)
+         */
+        public Object get(String columnname) {
+            return values[layout.position(columnname)];
+        }
+
+        /**
+         * getText is a function that returns the value of the column as text
+         */
+        public String getText(String columnname) {
+            Object value = get(columnname);
+            if(value instanceof byte[])
+                return new String((byte[]) value, StandardCharsets.UTF_8);
+            return value == null ? null : value.toString();
+        }
+
+        /**
+         * getInt is a function that returns the value of the column as an Integer
+         */
+        public Integer getInt(String columnname) {
+            Object value = get(columnname);
+            if(value == null || value instanceof Integer)
+                return (Integer) value;
+            if(value instanceof Number)
+                return ((Number) value).intValue();
+            if(value instanceof Boolean)
+                return (Boolean) value ? 1 : 0;
+            return Integer.valueOf(value.toString().trim());
+        }
+
+        /**
+         * getBoolean is a function that returns the value of the column as a Boolean (a number is true when it is not 0)
+         */
+        public Boolean getBoolean(String columnname) {
+            Object value = get(columnname);
+            if(value == null || value instanceof Boolean)
+                return (Boolean) value;
+            if(value instanceof Number)
+                return ((Number) value).doubleValue() != 0;
+            String text = value.toString().trim();
+            return text.equalsIgnoreCase("true") || (!text.equalsIgnoreCase("false") && !text.equals("0") && !text.isEmpty());
+        }
+
+        /**
+         * getFloat is a function that returns the value of the column as a Float
+         */
+        public Float getFloat(String columnname) {
+            Object value = get(columnname);
+            if(value == null || value instanceof Float)
+                return (Float) value;
+            if(value instanceof Number)
+                return ((Number) value).floatValue();
+            return Float.valueOf(value.toString().trim());
+        }
+
+        /**
+         * getReal is a function that returns the value of the column as a Double
+         */
+        public Double getReal(String columnname) {
+            Object value = get(columnname);
+            if(value == null || value instanceof Double)
+                return (Double) value;
+            if(value instanceof Number)
+                return ((Number) value).doubleValue();
+            return Double.valueOf(value.toString().trim());
+        }
+
+        /**
+         * getDate is a function that returns the value of a DATE column as text, e.g 2021-06-30, like selectDate
+         */
+        public String getDate(String columnname) {
+            return getText(columnname);
+        }
+
+        /**
+         * getDateTime is a function that returns the value of a DATETIME column as text, e.g 2021-06-30 12:00:00, like selectDateTime
+         */
+        public String getDateTime(String columnname) {
+            return getText(columnname);
+        }
+
+        /**
+         * getBlob is a function that returns the value of a BLOB column as text, like selectBlob
+         */
+        public String getBlob(String columnname) {
+            return getText(columnname);
+        }
+
+        /**
+         * isNull is a function that returns true if the column was NULL
+         */
+        public boolean isNull(String columnname) {
+            return get(columnname) == null;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("Row{");
+            for(int column = 0; column < values.length; column++)
+                sb.append(column == 0 ? "" : ", ").append(layout.labels[column]).append('=').append(values[column]);
+            return sb.append('}').toString();
+        }
+    }
+
+
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.32 selectPage
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectPage is a function that returns the next pageSize rows of a table in id order, starting after the row whose id is afterId
+     * --> e.g  Page page = sql.selectPage("orders", new String[]{"total"}, 0, 500);   // the first page
+     *          page = sql.selectPage("orders", new String[]{"total"}, page.getLastId(), 500);   // the next one
+     * --> it uses the AUTO_INCREMENT primary key id every table made by createTable has (keyset pagination):
+     *     "WHERE id > afterId ORDER BY id LIMIT pageSize" reads only the rows of the page from the primary key index,
+     *     so page 10000 is as fast as page 1, unlike LIMIT/OFFSET which reads and skips every row before the page
+     * --> Note: the id column is always read (added in front of the columns if it is not one of them)
+     * @param table_name The name of the Table from where the rows are selected
+     * @param columnnames The Column-names to read, an empty array for every column
+     * @param afterId The id of the last row of the previous page, 0 (or any id below the first) for the first page
+     * @param pageSize The most rows on the page
+     * @return Returns the page (empty after the last row), or null if the select failed
+     */
+    public Page selectPage(String table_name, String[] columnnames, long afterId, int pageSize) throws Exception
+    {
+        if(table_name == null)
+            throw new IllegalStateException("selectPage: table_name is null");
+        if(columnnames == null)
+            throw new IllegalStateException("selectPage: columnnames is null");
+        if(pageSize < 1)
+            throw new IllegalArgumentException("selectPage: pageSize must be at least 1");
+        checkNoNulls("selectPage", Arrays.asList(columnnames));
+        String[] read = columnnames;
+        boolean readsId = read.length == 0;
+        for(String columnname : read)
+            readsId |= columnname.equalsIgnoreCase("id");
+        if(!readsId) {
+            read = new String[columnnames.length + 1];
+            read[0] = "id";
+            System.arraycopy(columnnames, 0, read, 1, columnnames.length);
+        }
+        String columns = read.length == 0 ? "*" : String.join(", ", read);
+        String layoutKey = table_name + '\u0000' + columns;
 
-        String var1 =   "\'" + input_imageURL+ "\'" ;
-        try ( Connection con = getConnection(this.databaseName+"");
-              PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
+        Page page = null;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = con.prepareStatement("SELECT " + columns + " FROM " + table_name + " WHERE id > ? ORDER BY id LIMIT ?")
         ){
-            posted.executeUpdate();
+            posted.setLong(1, afterId);
+            posted.setLong(2, (long) pageSize + 1); // one row more than the page tells whether there is a next page
+            try (ResultSet temp = posted.executeQuery()) {
+                RowLayout layout = rowLayouts.get(layoutKey);
+                if(layout == null || layout.labels.length != temp.getMetaData().getColumnCount()) {
+                    layout = new RowLayout(temp.getMetaData(), read);
+                    rowLayouts.put(layoutKey, layout);
+                }
+                int idPosition = layout.position("id");
+                List<Row> rows = new ArrayList<>(Math.min(pageSize, 1024));
+                long lastId = afterId;
+                boolean hasMore = false;
+                while(temp.next()) {
+                    if(rows.size() == pageSize) {
+                        hasMore = true;
+                        break;
+                    }
+                    Row row = layout.read(temp);
+                    lastId = ((Number) row.values[idPosition]).longValue();
+                    rows.add(row);
+                }
+                page = new Page(rows, lastId, hasMore);
+            }
         }catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
             System.out.println("VendorError: " + ex.getErrorCode());
         }
+        return page;
     }
 
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 5.32.1 selectPages
+        //-------------------------------------------------------------------------------------
+    /**
+     * selectPages is a function that returns every page of a table in id order, each page is read with selectPage when the loop reaches it
+     * --> e.g  for(Page page : sql.selectPages("orders", 500, "total")) for(Row row : page.getRows()) ...
+     * --> Note: if reading a page fails, the SQLException is printed and the loop ends with an IllegalStateException
+     * @param table_name The name of the Table from where the rows are selected
+     * @param pageSize The most rows on each page
+     * @param columnnames The Column-names to read, none for every column
+     */
+    public Iterable<Page> selectPages(String table_name, int pageSize, String... columnnames)
+    {
+        if(table_name == null)
+            throw new IllegalStateException("selectPages: table_name is null");
+        if(columnnames == null)
+            throw new IllegalStateException("selectPages: columnnames is null");
+        if(pageSize < 1)
+            throw new IllegalArgumentException("selectPages: pageSize must be at least 1");
+        String[] columns = columnnames.clone();
+        return () -> new Iterator<Page>() {
+            private Page next;
+            private long afterId = Long.MIN_VALUE;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                if(next == null && !done) {
+                    try {
+                        next = selectPage(table_name, columns, afterId, pageSize);
+                    } catch (Exception ex) {
+                        throw new IllegalStateException("selectPages: reading the page after id " + afterId + " failed", ex);
+                    }
+                    if(next == null)
+                        throw new IllegalStateException("selectPages: reading the page after id " + afterId + " failed");
+                    afterId = next.getLastId();
+                    done = !next.hasMore();
+                    if(next.size() == 0)
+                        next = null;
+                }
+                return next != null;
+            }
+
+            @Override
+            public Page next() {
+                if(!hasNext())
+                    throw new NoSuchElementException("selectPages: no more pages");
+                Page page = next;
+                next = null;
+                return page;
+            }
+        };
+    }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.7.1 updateDate
+            //  --> 5.32.2 Page
         //-------------------------------------------------------------------------------------
     /**
-     * updateDate is a function that Updates all rows in the specified column with the specified Date, --> (A) ONly where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_date The Date to be entered into the column
-     * @param column_Name The Column-name where the Date will be inserted
-     * @param tablename The name of the Table where the Date will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * Page is one page of rows returned by selectPage, in id order
      */
-    public void updateDate(String input_date, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_date == null)
-            throw new IllegalStateException(" updateDate: input_date is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateDate: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateDate: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" updateDate: whereCondition is null");
+    public static final class Page {
+        private final List<Row> rows;
+        private final long lastId;
+        private final boolean hasMore;
+
+        private Page(List<Row> rows, long lastId, boolean hasMore) {
+            this.rows = Collections.unmodifiableList(rows);
+            this.lastId = lastId;
+            this.hasMore = hasMore;
+        }
 
-        String var1 =   "\'" + input_date+ "\'" ;
-        try ( Connection con = getConnection(this.databaseName+"");
-              PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
-        ){
-            posted.executeUpdate();
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
+        /**
+         * getRows is a function that returns the rows of the page
+         */
+        public List<Row> getRows() {
+            return rows;
+        }
+
+        /**
+         * getLastId is a function that returns the id of the last row of the page (afterId if the page is empty), pass it to selectPage for the next page
+         */
+        public long getLastId() {
+            return lastId;
+        }
+
+        /**
+         * hasMore is a function that returns true if there are rows after this page
+         */
+        public boolean hasMore() {
+            return hasMore;
+        }
+
+        /**
+         * size is a function that returns how many rows the page has
+         */
+        public int size() {
+            return rows.size();
         }
     }
 
 
+
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.8.1 updateDateTime
+            //  --> 5.33 parallelScan
         //-------------------------------------------------------------------------------------
     /**
-     * updateDateTime is a function that Updates all rows in the specified column with the specified datetime value, --> (A) ONLY where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_datetime The datetime value to be entered into the column
-     * @param column_Name The Column-name where the datetime value will be inserted
-     * @param tablename The name of the Table where the datetime value will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * parallelScan is a function that reads every row of a table using several connections and threads at once, and hands each row to consumer
+     * --> the id range of the table (the AUTO_INCREMENT primary key createTable adds) is split into chunks, parallelism threads each take a chunk,
+     *     read it with "WHERE id >= ? AND id < ?" on their own connection (streamed, like selectCursor) and take the next chunk when done,
+     *     so a full-table read scales with the cores of this machine and of the server instead of running on one connection
+     * --> e.g  LongAdder total = new LongAdder();
+     *          sql.parallelScan("orders", new String[]{"total"}, 8, row -> total.add(row.getInt("total")));
+     * --> Note 1: consumer is called from several threads at the same time and in no particular order, it must be thread-safe
+     * --> Note 2: with a connection pool, use a maxPoolSize of at least parallelism, otherwise the threads wait for each other's connections
+     * --> Note 3: if the consumer throws, the scan stops and the exception is thrown from parallelScan, if a chunk can not be read
+     *             the SQLException is printed, the scan stops and -1 is returned, either way some rows may already have been handed to consumer
+     * --> Note 4: when the scan stops early the selects still running are cancelled and their connections thrown away (see cancelStreaming),
+     *             parallelScan returns once every thread has finished, so a consumer that never returns keeps it waiting
+     * @param table_name The name of the Table to read
+     * @param columnnames The Column-names to read, an empty array for every column
+     * @param parallelism How many chunks are read at the same time
+     * @param consumer Receives every row
+     * @return Returns how many rows were read, or -1 if the scan failed
      */
-    public void updateDateTime(String input_datetime, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_datetime == null)
-            throw new IllegalStateException(" updateDateTime: input_datetime is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateDateTime: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateDateTime: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" updateDateTime: whereCondition is null");
-
-        String var1 =   "\'" + input_datetime + "\'" ;
-        try ( Connection con = getConnection(this.databaseName+"");
-              PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
+    public long parallelScan(String table_name, String[] columnnames, int parallelism, Consumer<Row> consumer) throws Exception
+    {
+        if(table_name == null)
+            throw new IllegalStateException("parallelScan: table_name is null");
+        if(columnnames == null)
+            throw new IllegalStateException("parallelScan: columnnames is null");
+        if(consumer == null)
+            throw new IllegalStateException("parallelScan: consumer is null");
+        if(parallelism < 1)
+            throw new IllegalArgumentException("parallelScan: parallelism must be at least 1");
+        checkNoNulls("parallelScan", Arrays.asList(columnnames));
+        String columns = columnnames.length == 0 ? "*" : String.join(", ", columnnames);
+
+        long minId;
+        long maxId;
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = con.prepareStatement("SELECT MIN(id), MAX(id) FROM " + table_name);
+            ResultSet temp = posted.executeQuery()
         ){
-            posted.executeUpdate();
+            temp.next();
+            minId = temp.getLong(1);
+            if(temp.wasNull())
+                return 0; // the table is empty
+            maxId = temp.getLong(2);
         }catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
             System.out.println("VendorError: " + ex.getErrorCode());
+            return -1;
         }
-    }
 
+        // a few chunks per thread, so a thread that finishes early takes another chunk instead of waiting for the slowest one
+        long chunks = (long) parallelism * 4;
+        long chunkSize = Math.max(1, (maxId - minId) / chunks + 1);
+        String sql = "SELECT " + columns + " FROM " + table_name + " WHERE id >= ? AND id < ?";
+        String layoutKey = table_name + '\u0000' + columns;
+        AtomicLong rowsRead = new AtomicLong();
+        RunningScans running = new RunningScans();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread worker = new Thread(task, "JavaSqlCommunication-parallel-scan");
+            worker.setDaemon(true);
+            return worker;
+        });
+        try {
+            CompletionService<Void> scans = new ExecutorCompletionService<>(workers);
+            int submitted = 0;
+            for(long from = minId; from <= maxId; from += chunkSize) {
+                long chunkFrom = from;
+                long chunkTo = maxId - from < chunkSize ? maxId + 1 : from + chunkSize;
+                scans.submit(() -> {
+                    scanChunk(sql, layoutKey, columnnames, chunkFrom, chunkTo, consumer, rowsRead, running);
+                    return null;
+                });
+                submitted++;
+                if(chunkTo > maxId)
+                    break;
+            }
+            for(int done = 0; done < submitted; done++) {
+                try {
+                    scans.take().get();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause();
+                    if(cause instanceof SQLException) {
+                        SQLException sqlEx = (SQLException) cause;
+                        System.out.println("SQLException: " + sqlEx.getMessage());
+                        System.out.println("SQLState: " + sqlEx.getSQLState());
+                        System.out.println("VendorError: " + sqlEx.getErrorCode());
+                        return -1;
+                    }
+                    if(cause instanceof Exception)
+                        throw (Exception) cause;
+                    throw (Error) cause;
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+            running.stopAll(); // a thread waiting on the socket for the next rows does not see the interrupt
+            boolean interrupted = false;
+            while(!workers.isTerminated()) {
+                try {
+                    workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if(interrupted)
+                Thread.currentThread().interrupt();
+        }
+        return rowsRead.get();
+    }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.9.1 updateBlob
+            //  --> 5.33.1 scanChunk
         //-------------------------------------------------------------------------------------
     /**
-     * updateBlob is a function that Updates all rows in the specified column with the specified Blob, --> (A) ONLY where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_blob The Text to be entered into the column
-     * @param column_Name The Column-name where the Blob will be inserted
-     * @param tablename The name of the Table where the Blob will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * scanChunk is the function each parallelScan thread runs, it streams the rows with fromId <= id < toId to consumer on a connection of its own
      */
-    public void updateBlob(String input_blob, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_blob == null)
-            throw new IllegalStateException(" updateBlob: input_blob is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateBlob: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateBlob: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" updateBlob: whereCondition is null");
-
-        String var1 =   "\'" + input_blob+ "\'" ;
-        try ( Connection con = getConnection(this.databaseName+"");
-              PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
+    private void scanChunk(String sql, String layoutKey, String[] columnnames, long fromId, long toId, Consumer<Row> consumer,
+                           AtomicLong rowsRead, RunningScans running) throws Exception
+    {
+        try( Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = streamingSelect(con, sql)
         ){
-            posted.executeUpdate();
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
+            if(!running.start(con, posted))
+                throw new InterruptedException("parallelScan: stopped");
+            try {
+                posted.setLong(1, fromId);
+                posted.setLong(2, toId);
+                try (ResultSet temp = posted.executeQuery()) {
+                    RowLayout layout = rowLayouts.get(layoutKey);
+                    if(layout == null || layout.labels.length != temp.getMetaData().getColumnCount()) {
+                        layout = new RowLayout(temp.getMetaData(), columnnames);
+                        rowLayouts.put(layoutKey, layout);
+                    }
+                    long read = 0;
+                    while(temp.next()) {
+                        if(Thread.interrupted()) { // another chunk failed, parallelScan is stopping
+                            cancelStreaming(con, posted);
+                            throw new InterruptedException("parallelScan: stopped");
+                        }
+                        consumer.accept(layout.read(temp));
+                        read++;
+                    }
+                    rowsRead.addAndGet(read);
+                }
+            } finally {
+                running.finish(con);
+            }
         }
     }
 
-/*
-            TO DO
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 4.10.1 updateJSON
+            //  --> 5.33.2 RunningScans
         //-------------------------------------------------------------------------------------
-    *//**
-     * updateJSON is a function that Updates all rows in the specified column with the specified JSON Value/Object, --> (A) ONLY where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_json The JSON Value/Object to be entered into the column
-     * @param column_Name The Column-name where the JSON Value/Object will be inserted
-     * @param tablename The name of the Table where the JSON Value/Object will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
-     *//*
-    public void updateJSON(String input_json, String column_Name, String tablename, String whereCondition ) throws Exception{
-        if(input_json == null)
-            throw new IllegalStateException(" updateJSON: input_json is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" updateJSON: column_Name is null");
-        if(tablename == null)
-            throw new IllegalStateException(" updateJSON: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" updateJSON: whereCondition is null");
-        String var1 =   "\'" + input_json+ "\'" ;
-        try ( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition)
-            ){
-            posted.executeUpdate();
+    /**
+     * RunningScans holds the select of every parallelScan thread that is reading a chunk, so parallelScan can cancel them when it stops early
+     * --> stopAll and finish are synchronized, so a connection is never aborted after its thread has given it back
+     */
+    private static class RunningScans {
+        private final Map<Connection, Statement> selects = new HashMap<>(); // guarded by this
+        private boolean stopped;
+
+        synchronized boolean start(Connection con, Statement posted) {
+            if(stopped)
+                return false;
+            selects.put(con, posted);
+            return true;
+        }
+
+        synchronized void finish(Connection con) {
+            selects.remove(con);
+        }
+
+        synchronized void stopAll() {
+            stopped = true;
+            selects.forEach(JavaSqlCommunication::cancelStreaming);
+            selects.clear();
+        }
+    }
+
+
+
+    /*//  ****    ------- >  TO DO!!!!
+    // --> the implementation depends on the datatype and the structure of the json file itself as such
+    //        it requires unique implementation
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 5.10.1 selectJSON
+    //-------------------------------------------------------------------------------------
+    public JsonValue selectJSON(String column_name, String whereCondition ) throws Exception
+    {
+        return selectJSON(column_name, whereCondition, this.tableName)
+    }
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 5.10.2 selectJSON
+    //-------------------------------------------------------------------------------------
+    public  JsonValue selectJSON(String column_name, String whereCondition, String table_name ) throws Exception
+    {
+        if(table_name==null)
+            throw new IllegalStateException(" selectJSON: tablename is null");
+        if(column_name.compareToIgnoreCase("all") == 0 )
+            column_name = "*";
+        JsonValue json = null;
+        try{
+            Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, "SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
+            ResultSet temp = posted.executeQuery();
+            temp.next();
+            json =temp.get(1);
+            posted.close();
+            conn.close()
         }catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
             System.out.println("VendorError: " + ex.getErrorCode());
-        }
-    }*/
+        }finally{System.out.println("Select Text Successfully executed");}
+        return json;
+    }
+*/
 
     //---------------------------------------------------------------------------------------------------------------------
-    // End ----> Code for Part 4 :  Update, where  <----- End.
+    // End ----> Code for Part 5 :  Select  <----- End.
     //---------------------------------------------------------------------------------------------------------------------
 
 
@@ -1666,552 +6683,1458 @@ public class JavaSqlCommunication {
 
 
     //---------------------------------------------------------------------------------------------------------------------
-    // Methods: Part 5 : JavaSqlCommunication  --> Select  <-- operations, returns the datatype that asked for or object if requested a full row of data
+    // Methods: Part 6 : JavaSqlCommunication  --> Delete <-- operations
     //---------------------------------------------------------------------------------------------------------------------
 
-        //  --> 5.1.1 selectText
-    //-------------------------------------------------------------------------------------
-    /**
-     * selectText is a function that returns a single row of text from the database, based specific table specified by current JavaSqlCommunication instance
-     * @param column_name  The Column-name from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single row (table-entry) of text
-     */
-    public  String selectText(String column_name, String whereCondition ) throws Exception
-    {
-        return selectText(column_name, whereCondition, this.tableName);
-    }
 
-    //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.1.2 selectText
-        //-------------------------------------------------------------------------------------
+
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // End ----> Code for Part 6 :  delete  <----- End.
+    //---------------------------------------------------------------------------------------------------------------------
+
+
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // Methods: Part 7 : JavaSqlCommunication  --> useful functions  <-- operations
+    //---------------------------------------------------------------------------------------------------------------------
+
+        //  --> 7.1.1 addText
+    //-------------------------------------------------------------------------------------
     /**
-     * selectText is a function that returns a single row of text from the database specified by current JavaSqlCommunication instance,
-     * NOTE: This method allows the user to specify the table where the text should be obtained from
-     * @param column_name The Column-name from where the value is selected
-     * @param table_name The name of the Table from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
+     * addText is a function that adds tet to an existing entry of text contianedd in a  in the specified column with the specified value, --> (A) where the specified condition is true
+     * --> the new text is appended after ", " by the database itself (one UPDATE ... CONCAT_WS), the current text is never read by the client
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
+     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
+     * @param input_value The Value to be entered into the column
+     * @param column_Name The Column-name where the Text will be inserted
+     * @param tablename The name of the Table where the Text will be inserted
+     * @param whereCondition The Condition that must be met for the update to occur in a specific row
      */
-    public  String selectText(String column_name, String whereCondition, String table_name ) throws Exception
-    {
-        if(column_name == null)
-            throw new IllegalStateException("selectText: column_name is null");
+    public void addText(String input_value, String column_Name, String whereCondition, String tablename ) throws Exception{
+        if(input_value == null)
+            throw new IllegalStateException(" update: input_value is null");
+        if(column_Name == null)
+            throw new IllegalStateException(" update: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" update: tablename is null");
         if(whereCondition == null)
-            throw new IllegalStateException("selectText: whereCondition is null");
-        if(table_name == null)
-            throw new IllegalStateException("selectText: table_name is null");
-        // --> must code in a unique method to make this possible
-        // --> i.e to actually return all the data values tht are in a row of seperate columns ,
-        // we could also ust print it as a string or return it all as a string
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
+            throw new IllegalStateException(" update: whereCondition is null");
 
-        String text = null;
-        try ( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery()
+        // the append happens on the server --> only the new piece is sent, and concurrent appends can not overwrite each other
+        try(
+            Connection con = getConnection(this.databaseName);
+            PreparedStatement posted = prepareClientSide(con, addTextSql(tablename, column_Name) + whereCondition)
         ){
-            temp.next();
-            text =temp.getString(1);
+            posted.setString(1, input_value);
+            posted.executeUpdate();
+            tableWritten(tablename);
+        }
+        catch (SQLException ex) {
+            System.out.println("SQLException: " + ex.getMessage());
+            System.out.println("SQLState: " + ex.getSQLState());
+            System.out.println("VendorError: " + ex.getErrorCode());
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.1.2 addTextBatch
+    //-------------------------------------------------------------------------------------
+    /**
+     * addTextBatch is a function that appends text (see addText) to many rows, each row identified by the value of its key column
+     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
+     * --> Note: every append is sent with one batched UPDATE ... SET column = CONCAT_WS(', ', column, ?) WHERE keyColumn = ?
+     *           (BATCH_CHUNK_SIZE rows per round trip) and committed once
+     * @param column_Name The Column-name where the Text will be appended
+     * @param tablename The name of the Table where the Text will be appended
+     * @param keyColumn The Column-name that identifies each row (usually id or another unique column)
+     * @param input_values The text to append for each key
+     * @return Returns the number of rows changed for every key, in the order of the map
+     */
+    public <K> Map<K, Integer> addTextBatch(String column_Name, String tablename, String keyColumn, Map<K, String> input_values) throws Exception{
+        if(column_Name == null)
+            throw new IllegalStateException(" addTextBatch: column_Name is null");
+        if(tablename == null)
+            throw new IllegalStateException(" addTextBatch: tablename is null");
+        if(keyColumn == null)
+            throw new IllegalStateException(" addTextBatch: keyColumn is null");
+        if(input_values == null)
+            throw new IllegalStateException(" addTextBatch: input_values is null");
+        checkNoNulls("addTextBatch", input_values.keySet());
+        checkNoNulls("addTextBatch", input_values.values());
+
+        Map<K, Integer> counts = new LinkedHashMap<>();
+        if(input_values.isEmpty())
+            return counts;
+        try ( Connection con = getConnection(this.databaseName) ){
+            boolean autoCommit = con.getAutoCommit();
+            if(autoCommit)
+                con.setAutoCommit(false);
+            try {
+                updateBatchByStatement(con, addTextSql(tablename, column_Name) + keyColumn + " = ?", input_values, counts);
+                if(autoCommit)
+                    con.commit();
+                tableWritten(tablename);
+            } catch (SQLException | RuntimeException ex) {
+                counts.clear();
+                if(autoCommit)
+                    con.rollback();
+                throw ex;
+            } finally {
+                if(autoCommit)
+                    con.setAutoCommit(true);
+            }
         }catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
             System.out.println("VendorError: " + ex.getErrorCode());
         }
-        return text;
+        return counts;
     }
 
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.1.3 addTextSql
+    //-------------------------------------------------------------------------------------
+    /**
+     * addTextSql is a function that returns "UPDATE tablename SET column = CONCAT_WS(', ', column, ?) WHERE " --> the caller appends the condition
+     * --> Note: CONCAT_WS skips NULL, so appending to an empty (NULL) entry stores just the new text
+     */
+    private static String addTextSql(String tablename, String column_Name) {
+        return "UPDATE " + tablename + " SET " + column_Name + " = CONCAT_WS(', ', " + column_Name + ", ?) WHERE ";
+    }
 
-
+    
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.2.1 selectInt
-        //-------------------------------------------------------------------------------------
+    //  --> 7.2.1 isLocationEmpty
+    //-------------------------------------------------------------------------------------
     /**
-     * selectInt is a function that returns a single integer value from the database, based specific table specified by current JavaSqlCommunication instance
+     * isLocationEmpty is a function that returns a boolean value, with regard to weather a database location (row,col) is empty.
      * @param column_name The Column-name from where the value is selected
      * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) integer value
+     * @return Returns a Boolean Value
      */
-    public  Integer selectInt(String column_name, String whereCondition ) throws Exception
+    public boolean isLocationEmpty(String column_name, String whereCondition ) throws Exception
     {
-        return selectInt(column_name, whereCondition, this.tableName);
+        return isLocationEmpty(column_name, whereCondition, this.tableName);
     }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.2.2 selectInt
-        //-------------------------------------------------------------------------------------
+    //  --> 7.2.2 isLocationEmpty
+    //-------------------------------------------------------------------------------------
     /**
-     * selectInt is a function that returns a single integer value from the database specified by current JavaSqlCommunication instance,
+     * isLocationEmpty is a function that returns a boolean value, with regard to weather a database location (row,col) is empty.
      * NOTE: This method allows the user to specify the table where the value should be obtained from
+     * --> Note: the location is also empty when no row matches whereCondition
      * @param column_name The Column-name from where the value is selected
      * @param table_name The name of the Table from where the value is selected
      * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) integer value
+     * @return Returns a Boolean Value
      */
-    public Integer selectInt(String column_name, String whereCondition, String table_name ) throws Exception
-    {
+    public boolean isLocationEmpty(String column_name, String whereCondition, String table_name ) throws Exception {
         if(column_name == null)
-            throw new IllegalStateException("selectInt: column_name is null");
+            throw new IllegalStateException("isLocationEmpty: column_name is null");
         if(whereCondition == null)
-            throw new IllegalStateException("selectInt: whereCondition is null");
+            throw new IllegalStateException("isLocationEmpty: whereCondition is null");
         if(table_name == null)
-            throw new IllegalStateException("selectInt: table_name is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
+            throw new IllegalStateException("isLocationEmpty: table_name is null");
+        // the database checks for NULL and sends back only the answer, instead of the whole value,
+        // for "all" the first column is checked, as before
+        boolean allColumns = column_name.compareToIgnoreCase("all") == 0;
+        String checked = allColumns ? "*" : column_name + " IS NULL";
 
-        Integer integer = null;
-        try( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery()
+        try( Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, "SELECT " + checked + " FROM " + table_name + " WHERE " + whereCondition);
+             ResultSet temp = posted.executeQuery()
         ){
-            temp.next();
-            integer = temp.getInt(1);
+            if(!temp.next())
+                return true; // no row matches, so nothing is stored there
+            if(allColumns)
+                return temp.getString(1) == null;
+            return temp.getBoolean(1);
         }catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
             System.out.println("VendorError: " + ex.getErrorCode());
+            return true;
         }
-        return integer;
     }
 
 
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.3.1 selectBoolean
-        //-------------------------------------------------------------------------------------
+    //  --> 7.3 count
+    //-------------------------------------------------------------------------------------
     /**
-     * selectBoolean is a function that returns a single boolean value from the database, based specific table specified by current JavaSqlCommunication instance
-     * @param column_name The Column-name from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) boolean value
+     * count is a function that returns how many rows of a table match whereCondition, counted by the database (SELECT COUNT(*))
+     * --> only the number is sent back, not the rows
+     * @param table_name The name of the Table
+     * @param whereCondition The Condition a row must meet to be counted
+     * --> Note: if the select fails its SQLException is thrown, so a failure is never mistaken for a count
+     * @return Returns the number of matching rows
      */
-    public  Boolean selectBoolean(String column_name, String whereCondition ) throws Exception
-    {
-        return selectBoolean(column_name, whereCondition, this.tableName);
+    public long count(String table_name, String whereCondition) throws Exception {
+        if(table_name == null)
+            throw new IllegalStateException("count: table_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("count: whereCondition is null");
+        Object count = queryScalar("SELECT COUNT(*) FROM " + table_name + " WHERE " + whereCondition);
+        return ((Number) count).longValue();
     }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.3.2 updateInt
-        //-------------------------------------------------------------------------------------
+    //  --> 7.4 exists
+    //-------------------------------------------------------------------------------------
     /**
-     * selectBoolean is a function that returns a single boolean value from the database specified by current JavaSqlCommunication instance,
-     * NOTE: This method allows the user to specify the table where the value should be obtained from
-     * @param column_name The Column-name from where the value is selected
-     * @param table_name The name of the Table from where the value is selected
+     * exists is a function that returns true if at least one row of a table matches whereCondition (SELECT EXISTS(...)),
+     * --> the database stops at the first matching row instead of counting them all
+     * @param table_name The name of the Table
+     * @param whereCondition The Condition a row must meet
+     * --> Note: if the select fails its SQLException is thrown, so a failure is never mistaken for "no row matches"
+     * @return Returns true if a row matches, false if none does
+     */
+    public boolean exists(String table_name, String whereCondition) throws Exception {
+        if(table_name == null)
+            throw new IllegalStateException("exists: table_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException("exists: whereCondition is null");
+        Object exists = queryScalar("SELECT EXISTS(SELECT 1 FROM " + table_name + " WHERE " + whereCondition + ")");
+        return ((Number) exists).intValue() != 0;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.5 isNull
+    //-------------------------------------------------------------------------------------
+    /**
+     * isNull is a function that returns true if the column of the row that matches whereCondition is NULL, the same as isLocationEmpty
+     * --> the database checks the value (column IS NULL), only the answer is sent back
+     * @param column_name The Column-name to check
+     * @param table_name The name of the Table
      * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) boolean value
+     * @return Returns true if the value is NULL or no row matches
      */
-    public  Boolean selectBoolean(String column_name, String whereCondition, String table_name ) throws Exception
-    {
+    public boolean isNull(String column_name, String table_name, String whereCondition) throws Exception {
+        return isLocationEmpty(column_name, whereCondition, table_name);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.6 sumInt
+    //-------------------------------------------------------------------------------------
+    /**
+     * sumInt is a function that returns the sum of an integer column over the rows that match whereCondition, added up by the database (SELECT SUM(column))
+     * --> the sum is a Long, so it does not overflow when the column values are ints
+     * @param column_name The Column-name to add up
+     * @param table_name The name of the Table
+     * @param whereCondition The Condition a row must meet to be added
+     * @return Returns the sum (NULL values are skipped), or null if no row matches or the select failed
+     */
+    public Long sumInt(String column_name, String table_name, String whereCondition) throws Exception {
+        Object sum = aggregate("sumInt", "SUM", column_name, table_name, whereCondition);
+        return sum == null ? null : ((Number) sum).longValue();
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.7 sumReal
+    //-------------------------------------------------------------------------------------
+    /**
+     * sumReal is a function that returns the sum of a Real (or Float) column over the rows that match whereCondition, added up by the database
+     * @param column_name The Column-name to add up
+     * @param table_name The name of the Table
+     * @param whereCondition The Condition a row must meet to be added
+     * @return Returns the sum (NULL values are skipped), or null if no row matches or the select failed
+     */
+    public Double sumReal(String column_name, String table_name, String whereCondition) throws Exception {
+        Object sum = aggregate("sumReal", "SUM", column_name, table_name, whereCondition);
+        return sum == null ? null : ((Number) sum).doubleValue();
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.8 avg
+    //-------------------------------------------------------------------------------------
+    /**
+     * avg is a function that returns the average of a numeric column over the rows that match whereCondition, worked out by the database (SELECT AVG(column))
+     * @param column_name The Column-name to average
+     * @param table_name The name of the Table
+     * @param whereCondition The Condition a row must meet to be averaged
+     * @return Returns the average (NULL values are skipped), or null if no row matches or the select failed
+     */
+    public Double avg(String column_name, String table_name, String whereCondition) throws Exception {
+        Object avg = aggregate("avg", "AVG", column_name, table_name, whereCondition);
+        return avg == null ? null : ((Number) avg).doubleValue();
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.9 min
+    //-------------------------------------------------------------------------------------
+    /**
+     * min is a function that returns the smallest value of a column over the rows that match whereCondition, found by the database (SELECT MIN(column))
+     * --> works for numbers, text and dates, the value is returned as the driver reads it (Integer, Double, String, java.sql.Date, ...)
+     * @param column_name The Column-name to look at
+     * @param table_name The name of the Table
+     * @param whereCondition The Condition a row must meet to be looked at
+     * @return Returns the smallest value, or null if no row matches or the select failed
+     */
+    public Object min(String column_name, String table_name, String whereCondition) throws Exception {
+        return aggregate("min", "MIN", column_name, table_name, whereCondition);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.10 max
+    //-------------------------------------------------------------------------------------
+    /**
+     * max is a function that returns the largest value of a column over the rows that match whereCondition, found by the database (SELECT MAX(column))
+     * --> works for numbers, text and dates, the value is returned as the driver reads it (Integer, Double, String, java.sql.Date, ...)
+     * @param column_name The Column-name to look at
+     * @param table_name The name of the Table
+     * @param whereCondition The Condition a row must meet to be looked at
+     * @return Returns the largest value, or null if no row matches or the select failed
+     */
+    public Object max(String column_name, String table_name, String whereCondition) throws Exception {
+        return aggregate("max", "MAX", column_name, table_name, whereCondition);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.11 aggregate
+    //-------------------------------------------------------------------------------------
+    /**
+     * aggregate is the function behind sumInt, sumReal, avg, min and max, it returns function(column) over the matching rows
+     */
+    private Object aggregate(String method, String function, String column_name, String table_name, String whereCondition) throws Exception {
         if(column_name == null)
-            throw new IllegalStateException("selectBoolean: column_name is null");
-        if(whereCondition == null)
-            throw new IllegalStateException("selectBoolean: whereCondition is null");
+            throw new IllegalStateException(method + ": column_name is null");
         if(table_name == null)
-            throw new IllegalStateException("selectBoolean: table_name is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
+            throw new IllegalStateException(method + ": table_name is null");
+        if(whereCondition == null)
+            throw new IllegalStateException(method + ": whereCondition is null");
+        return selectScalar("SELECT " + function + "(" + column_name + ") FROM " + table_name + " WHERE " + whereCondition);
+    }
 
-        Boolean bool = null;
-        try( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery()
-        ){
-            temp.next();
-            bool = temp.getBoolean(1);
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.12 selectScalar
+    //-------------------------------------------------------------------------------------
+    /**
+     * selectScalar is a function that runs a select returning one value and returns it, or null if it is NULL, there is no row, or the select failed
+     */
+    private Object selectScalar(String sql) throws Exception {
+        try {
+            return queryScalar(sql);
         }catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
             System.out.println("VendorError: " + ex.getErrorCode());
+            return null;
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+    //  --> 7.12.1 queryScalar
+    //-------------------------------------------------------------------------------------
+    /**
+     * queryScalar is a function that runs a select returning one value and returns it, or null if it is NULL or there is no row,
+     * unlike selectScalar a failed select throws its SQLException
+     */
+    private Object queryScalar(String sql) throws Exception {
+        try( Connection con = getConnection(this.databaseName);
+             PreparedStatement posted = prepareClientSide(con, sql);
+             ResultSet temp = posted.executeQuery()
+        ){
+            return temp.next() ? temp.getObject(1) : null;
         }
-        return bool;
     }
 
 
 
-    //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.4.1 selectFloat
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // End ----> Code for Part 7 :  useful functions  <----- End.
+    //---------------------------------------------------------------------------------------------------------------------
+
+
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // Part 8 : JavaSqlCommunication  --> Connection pool <-- used by getConnection when the instance is constructed with a pool
+    //---------------------------------------------------------------------------------------------------------------------
+
+        //  --> 8.1 ConnectionPool
+    //-------------------------------------------------------------------------------------
+    /**
+     * ConnectionPool keeps open connections to the database of the JavaSqlCommunication instance, so a call borrows a connection
+     * instead of paying the TCP/TLS/authentication handshake for every single statement.
+     * --> Note 1: the Connection handed out is a proxy, calling close() on it returns the connection to the pool
+     * --> Note 2: at most maxSize connections are borrowed at the same time, a caller waits up to BORROW_TIMEOUT_MILLIS for one to be returned
+     */
+    private class ConnectionPool {
+        private static final long BORROW_TIMEOUT_MILLIS = 30000; // how long borrow() waits for a connection before giving up
+        private static final long VALIDATION_BYPASS_MILLIS = 500; // connections used more recently than this are not re-validated
+        // pooled connections live long enough to reuse server-side prepared statements, the driver keeps an LRU cache of them per connection,
+        // only statements with a fixed text are prepared that way, the ones built around a whereCondition go through prepareClientSide
+        private static final String POOLED_CONNECTION_OPTIONS = "useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=250&prepStmtCacheSqlLimit=2048";
+
+        private final int minSize;
+        private final int maxSize;
+        private final long idleTimeoutMillis;
+        private final long maxLifetimeMillis;
+        private final int validationTimeoutSeconds;
+        private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>(); // most recently returned first
+        private final Semaphore permits; // one permit for every connection that may be borrowed
+        private final ScheduledExecutorService housekeeper;
+        private volatile boolean closed;
+
+        ConnectionPool(int minSize, int maxSize, long idleTimeoutMillis, long maxLifetimeMillis, int validationTimeoutSeconds) {
+            if(maxSize < 1)
+                throw new IllegalArgumentException("JavaSqlCommunication: maxPoolSize must be at least 1");
+            if(minSize < 0 || minSize > maxSize)
+                throw new IllegalArgumentException("JavaSqlCommunication: minPoolSize must be between 0 and maxPoolSize");
+            if(idleTimeoutMillis <= 0)
+                throw new IllegalArgumentException("JavaSqlCommunication: idleTimeoutMillis must be positive");
+            if(maxLifetimeMillis <= 0)
+                throw new IllegalArgumentException("JavaSqlCommunication: maxLifetimeMillis must be positive");
+            if(validationTimeoutSeconds < 0)
+                throw new IllegalArgumentException("JavaSqlCommunication: validationTimeoutSeconds is negative");
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            this.idleTimeoutMillis = idleTimeoutMillis;
+            this.maxLifetimeMillis = maxLifetimeMillis;
+            this.validationTimeoutSeconds = validationTimeoutSeconds;
+            this.permits = new Semaphore(maxSize, true);
+            this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "JavaSqlCommunication-pool-housekeeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.min(idleTimeoutMillis, 30000);
+            housekeeper.scheduleWithFixedDelay(this::houseKeep, 0, period, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * borrow returns an open connection from the pool, opening a new one only when no idle connection is available
+         * --> Note: each pooled connection remembers which database it is using, and only switches (setCatalog) when a different one is asked for
+         */
+        Connection borrow(String databasename) throws SQLException {
+            if(closed)
+                throw new SQLException("JavaSqlCommunication: the connection pool is closed");
+            try {
+                if(!permits.tryAcquire(BORROW_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS))
+                    throw new SQLTransientConnectionException("JavaSqlCommunication: timed out after " + BORROW_TIMEOUT_MILLIS
+                            + "ms waiting for one of the " + maxSize + " pooled connections");
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("JavaSqlCommunication: interrupted while waiting for a pooled connection", ex);
+            }
+            try {
+                PooledConnection pooled;
+                while((pooled = idle.pollFirst()) != null) {
+                    if(!isAlive(pooled)) {
+                        pooled.closeQuietly();
+                        continue;
+                    }
+                    try {
+                        pooled.useCatalog(databasename);
+                    } catch (SQLException ex) {
+                        pooled.closeQuietly();
+                        throw ex;
+                    }
+                    return pooled.handOut();
+                }
+                return new PooledConnection(openConnection(url, userName, password, databasename, POOLED_CONNECTION_OPTIONS), databasename).handOut();
+            } catch (SQLException | RuntimeException ex) {
+                permits.release();
+                throw ex;
+            }
+        }
+
+        /**
+         * giveBack is called when the proxy handed out by borrow is closed, the connection is reset and put back for the next caller
+         */
+        void giveBack(PooledConnection pooled) {
+            try {
+                if(closed || pooled.raw.isClosed() || age(pooled) > maxLifetimeMillis) {
+                    pooled.closeQuietly();
+                    return;
+                }
+                if(!pooled.raw.getAutoCommit()) {
+                    pooled.raw.rollback();
+                    pooled.raw.setAutoCommit(true);
+                }
+                pooled.lastUsed = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+                if(closed && idle.remove(pooled))
+                    pooled.closeQuietly();
+            } catch (SQLException ex) {
+                pooled.closeQuietly();
+            } finally {
+                permits.release();
+            }
+        }
+
+        private long age(PooledConnection pooled) {
+            return System.currentTimeMillis() - pooled.created;
+        }
+
+        private boolean isAlive(PooledConnection pooled) {
+            long now = System.currentTimeMillis();
+            if(now - pooled.created > maxLifetimeMillis || now - pooled.lastUsed > idleTimeoutMillis)
+                return false;
+            if(now - pooled.lastUsed < VALIDATION_BYPASS_MILLIS)
+                return true;
+            try {
+                return pooled.raw.isValid(validationTimeoutSeconds);
+            } catch (SQLException ex) {
+                return false;
+            }
+        }
+
+        /**
+         * houseKeep runs in the background, it retires idle and expired connections and tops the pool back up to minSize
+         */
+        private void houseKeep() {
+            long now = System.currentTimeMillis();
+            for(PooledConnection pooled : idle.toArray(new PooledConnection[0])) {
+                boolean expired = now - pooled.created > maxLifetimeMillis;
+                boolean unused = now - pooled.lastUsed > idleTimeoutMillis && totalSize() > minSize;
+                if((expired || unused) && idle.remove(pooled))
+                    pooled.closeQuietly();
+            }
+            try {
+                while(!closed && totalSize() < minSize)
+                    idle.offerLast(new PooledConnection(openConnection(url, userName, password, databaseName, POOLED_CONNECTION_OPTIONS), databaseName));
+            } catch (SQLException ex) {
+                System.out.println("SQLException: " + ex.getMessage());
+                System.out.println("SQLState: " + ex.getSQLState());
+                System.out.println("VendorError: " + ex.getErrorCode());
+            }
+        }
+
+        private int totalSize() {
+            return idle.size() + (maxSize - permits.availablePermits());
+        }
+
+        void close() {
+            closed = true;
+            housekeeper.shutdownNow();
+            PooledConnection pooled;
+            while((pooled = idle.pollFirst()) != null)
+                pooled.closeQuietly();
+        }
+
+        //  --> 8.1.1 PooledConnection
+        //-------------------------------------------------------------------------------------
+        /**
+         * PooledConnection is one physical connection owned by the pool, together with the bookkeeping needed to retire it
+         */
+        private class PooledConnection {
+            final Connection raw;
+            final long created = System.currentTimeMillis();
+            volatile long lastUsed = created;
+            String catalog; // the database this connection is currently using
+
+            PooledConnection(Connection raw, String catalog) {
+                this.raw = raw;
+                this.catalog = catalog;
+            }
+
+            void useCatalog(String databasename) throws SQLException {
+                if(!databasename.equals(catalog)) {
+                    raw.setCatalog(databasename);
+                    catalog = databasename;
+                }
+            }
+
+            Connection handOut() {
+                return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, new Handle(this));
+            }
+
+            void closeQuietly() {
+                try {
+                    raw.close();
+                } catch (SQLException ignored) {
+                }
+            }
+        }
+
+        //  --> 8.1.2 Handle
         //-------------------------------------------------------------------------------------
+        /**
+         * Handle is the proxy behind a borrowed connection, every call goes to the physical connection except close() which gives it back
+         */
+        private class Handle implements InvocationHandler {
+            private final PooledConnection pooled;
+            private boolean returned;
+
+            Handle(PooledConnection pooled) {
+                this.pooled = pooled;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if(name.equals("close")) {
+                    if(!returned) {
+                        returned = true;
+                        giveBack(pooled);
+                    }
+                    return null;
+                }
+                if(name.equals("isClosed"))
+                    return returned || pooled.raw.isClosed();
+                if(returned && method.getDeclaringClass() != Object.class)
+                    throw new SQLException("JavaSqlCommunication: this connection has already been returned to the pool");
+                if(name.equals("setCatalog")) {
+                    pooled.useCatalog((String) args[0]);
+                    return null;
+                }
+                try {
+                    return method.invoke(pooled.raw, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            }
+        }
+    }
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // End ----> Code for Part 8 :  Connection pool  <----- End.
+    //---------------------------------------------------------------------------------------------------------------------
+
+
+
+
+
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // Part 9 : JavaSqlCommunication  --> Transactions <-- several calls committed together on one connection
+    //---------------------------------------------------------------------------------------------------------------------
+
+        //  --> 9.1 inTransaction
+    //-------------------------------------------------------------------------------------
     /**
-     * selectFloat is a function that returns a single Float value from the database, based specific table specified by current JavaSqlCommunication instance
-     * @param column_name The Column-name from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Float value
+     * inTransaction is a function that runs work inside one database transaction --> every insert, update, select, ... that work makes
+     * through this JavaSqlCommunication instance uses the same connection, and they are all committed together at the end (one commit
+     * instead of one per call), or all rolled back if anything fails
+     * --> e.g  sql.inTransaction(tx -> { tx.insertText("hello", "greeting"); tx.updateInt(5, "count", "stats", "id=1"); });
+     * --> Note 1: the transaction belongs to the thread that called inTransaction, calls made from other threads are not part of it
+     * --> Note 2: if any statement fails the transaction is rolled back and the SQLException is thrown from inTransaction,
+     *             even if the method that ran the statement only printed it
+     * --> Note 3: calling inTransaction inside work joins the transaction already running instead of starting a new one
+     * @param work The calls that make up the transaction
      */
-    public  Float selectFloat(String column_name, String whereCondition ) throws Exception
-    {
-        return selectFloat(column_name, whereCondition, this.tableName);
+    public void inTransaction(TransactionWork work) throws Exception {
+        inTransaction(-1, work);
     }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.4.2 selectFloat
+            //  --> 9.2 inTransaction
         //-------------------------------------------------------------------------------------
     /**
-     * selectFloat is a function that returns a single Float value from the database specified by current JavaSqlCommunication instance,
-     * NOTE: This method allows the user to specify the table where the value should be obtained from
-     * @param column_name The Column-name from where the value is selected
-     * @param table_name The name of the Table from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Float value
+     * inTransaction is a function that runs work inside one database transaction with the isolation level given (see 9.1)
+     * @param isolationLevel One of Connection.TRANSACTION_READ_UNCOMMITTED, TRANSACTION_READ_COMMITTED, TRANSACTION_REPEATABLE_READ
+     *                       or TRANSACTION_SERIALIZABLE, the connection's previous level is restored afterwards (-1 keeps the current level)
+     * @param work The calls that make up the transaction
      */
-    public  Float selectFloat(String column_name, String whereCondition, String table_name ) throws Exception
-    {
-        if(column_name == null)
-            throw new IllegalStateException("selectFloat: column_name is null");
-        if(whereCondition == null)
-            throw new IllegalStateException("selectFloat: whereCondition is null");
-        if(table_name == null)
-            throw new IllegalStateException("selectFloat: table_name is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
+    public void inTransaction(int isolationLevel, TransactionWork work) throws Exception {
+        if(work == null)
+            throw new IllegalStateException("inTransaction: work is null");
+        if(isolationLevel != -1 && isolationLevel != Connection.TRANSACTION_READ_UNCOMMITTED && isolationLevel != Connection.TRANSACTION_READ_COMMITTED
+                && isolationLevel != Connection.TRANSACTION_REPEATABLE_READ && isolationLevel != Connection.TRANSACTION_SERIALIZABLE)
+            throw new IllegalArgumentException("inTransaction: unknown isolationLevel " + isolationLevel);
+        if(currentTransaction.get() != null) {
+            work.run(this);
+            return;
+        }
 
-        Float aFloat = null;
-        try ( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery()
-        ){
-            temp.next();
-            aFloat =temp.getFloat(1);
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
+        try (Connection conn = getConnection(this.databaseName)) {
+            if(conn == null)
+                throw new SQLException("inTransaction: could not connect to the database " + this.databaseName);
+            int previousIsolation = -1;
+            if(isolationLevel != -1) {
+                previousIsolation = conn.getTransactionIsolation();
+                if(previousIsolation != isolationLevel)
+                    conn.setTransactionIsolation(isolationLevel);
+            }
+            conn.setAutoCommit(false);
+            Transaction transaction = new Transaction(conn, this.databaseName);
+            currentTransaction.set(transaction);
+            try {
+                work.run(this);
+                if(transaction.failure != null)
+                    throw transaction.failure;
+                conn.commit();
+                currentTransaction.remove();
+                for(String tablename : transaction.writtenTables)
+                    tableWritten(tablename);
+            } catch (Exception | Error ex) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackFailure) {
+                    ex.addSuppressed(rollbackFailure);
+                }
+                throw ex;
+            } finally {
+                currentTransaction.remove();
+                conn.setAutoCommit(true);
+                if(previousIsolation != -1 && previousIsolation != isolationLevel)
+                    conn.setTransactionIsolation(previousIsolation);
+                if(!transaction.catalog.equals(this.databaseName))
+                    conn.setCatalog(this.databaseName);
+            }
         }
-        return aFloat;
     }
 
-
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 9.3 isInTransaction
+        //-------------------------------------------------------------------------------------
+    /**
+     * isInTransaction is a function that returns true when the calling thread is running inside inTransaction
+     */
+    public boolean isInTransaction() {
+        return currentTransaction.get() != null;
+    }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.5.1 selectReal
+            //  --> 9.4 TransactionWork
         //-------------------------------------------------------------------------------------
     /**
-     * selectReal is a function that returns a single Real value from the database, based specific table specified by current JavaSqlCommunication instance
-     * @param column_name The Column-name from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Real value
+     * TransactionWork is the work handed to inTransaction, tx is the JavaSqlCommunication instance the transaction runs on
      */
-    public Double selectReal(String column_name, String whereCondition ) throws Exception
-    {
-        return selectReal(column_name, whereCondition, this.tableName);
+    public interface TransactionWork {
+        void run(JavaSqlCommunication tx) throws Exception;
     }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.5.2 selectReal
+            //  --> 9.5 Transaction
         //-------------------------------------------------------------------------------------
     /**
-     * selectReal is a function that returns a single Real value from the database specified by current JavaSqlCommunication instance,
-     * NOTE: This method allows the user to specify the table where the value should be obtained from
-     * @param column_name The Column-name from where the value is selected
-     * @param table_name The name of the Table from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Real value
+     * Transaction pins one connection to the thread running inTransaction, getConnection hands out proxies of it that
+     * (A) ignore close(), so every call in the transaction keeps using the same connection, and
+     * (B) remember the first SQLException any statement throws, so inTransaction rolls back even if the caller swallowed it
+     * --> with the MySQL driver the proxy is also a JdbcConnection, so prepareClientSide and prepareServerSide work inside a transaction
+     *     and their statements are tracked too
      */
-    public  Double selectReal(String column_name, String whereCondition, String table_name ) throws Exception
-    {
-        if(column_name == null)
-            throw new IllegalStateException("selectReal: column_name is null");
-        if(whereCondition == null)
-            throw new IllegalStateException("selectReal: whereCondition is null");
-        if(table_name == null)
-            throw new IllegalStateException("selectReal: table_name is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
+    private static class Transaction {
+        private final Connection conn;
+        private String catalog; // the database the pinned connection is currently using
+        private SQLException failure;
+        private final List<String> writtenTables = new ArrayList<>(); // tables to drop from the result cache once committed
+
+        Transaction(Connection conn, String catalog) {
+            this.conn = conn;
+            this.catalog = catalog;
+        }
 
-        Double real = null;
-        try( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery()
-        ){
-            temp.next();
-            real =temp.getDouble(1);
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
+        Connection handOut(String databasename) throws SQLException {
+            if(!databasename.equals(catalog)) {
+                conn.setCatalog(databasename);
+                catalog = databasename;
+            }
+            Class<?> type = conn.isWrapperFor(com.mysql.cj.jdbc.JdbcConnection.class) ? com.mysql.cj.jdbc.JdbcConnection.class : Connection.class;
+            return (Connection) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+                if(name.equals("close"))
+                    return null;
+                // the proxy stands in for the driver connection, so callers never reach it directly, where statements would not be tracked
+                if(name.equals("isWrapperFor"))
+                    return ((Class<?>) args[0]).isInstance(proxy);
+                if(name.equals("unwrap")) {
+                    if(((Class<?>) args[0]).isInstance(proxy))
+                        return proxy;
+                    throw new SQLException("inTransaction: the transaction's connection cannot be unwrapped to " + args[0]);
+                }
+                Object target = method.getDeclaringClass().isInstance(conn) ? conn : conn.unwrap(com.mysql.cj.jdbc.JdbcConnection.class);
+                Object result = invoke(target, method, args);
+                if(result instanceof Statement && method.getReturnType().isInterface())
+                    return track(result, method.getReturnType());
+                return result;
+            });
+        }
+
+        private Object track(Object statement, Class<?> type) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return invoke(statement, method, args);
+                } catch (SQLException ex) {
+                    if(failure == null && method.getName().startsWith("execute"))
+                        failure = ex;
+                    throw ex;
+                }
+            });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
         }
-        return real;
     }
 
+    //---------------------------------------------------------------------------------------------------------------------
+    // End ----> Code for Part 9 :  Transactions  <----- End.
+    //---------------------------------------------------------------------------------------------------------------------
+
+
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+    //********************************************************************************************************************
 
 
+    //---------------------------------------------------------------------------------------------------------------------
+    // Part 10 : JavaSqlCommunication  --> Write-behind <-- inserts queued and written in batches by a background writer
+    //---------------------------------------------------------------------------------------------------------------------
 
-    // --> to do  --->
-    // --> to do  --->
-    // --> to do  --->
-    // --> to do  --->
+        //  --> 10.1 enableWriteBehind
+    //-------------------------------------------------------------------------------------
+    /**
+     * enableWriteBehind is a function that switches the single-value insert methods (insertText, insertInt, insertDateTime, ...) to write-behind mode
+     * --> in write-behind mode an insert only puts the value in a queue and returns, a background writer takes the queued values
+     *     and inserts them with one executeBatch and one commit per table/column, as soon as batchSize values are waiting
+     *     or flushIntervalMillis after the last write, whichever comes first
+     * --> Note 1: when capacity values are waiting, inserts block until the writer has made room (backpressure) instead of using more memory
+     * --> Note 2: a failed write is printed like every other SQLException and counted in getWriteBehindFailedRows, the caller is not told,
+     *             so only use write-behind for data that can be lost (telemetry, logs, ...)
+     * --> Note 3: inserts made inside inTransaction are never queued, they stay part of the transaction
+     * --> Note 4: call flush() to wait for everything queued so far, and close() or disableWriteBehind() to drain the queue and stop the writer
+     * @param capacity The most values that may be waiting in the queue
+     * @param batchSize The most values written by one batch
+     * @param flushIntervalMillis The longest a value waits in the queue before the writer writes it
+     */
+    public synchronized void enableWriteBehind(int capacity, int batchSize, long flushIntervalMillis) {
+        if(capacity < 1)
+            throw new IllegalArgumentException("enableWriteBehind: capacity must be at least 1");
+        if(batchSize < 1)
+            throw new IllegalArgumentException("enableWriteBehind: batchSize must be at least 1");
+        if(flushIntervalMillis < 1)
+            throw new IllegalArgumentException("enableWriteBehind: flushIntervalMillis must be at least 1");
+        if(writeBehind != null)
+            throw new IllegalStateException("enableWriteBehind: write-behind is already enabled");
+        writeBehind = new WriteBehind(capacity, batchSize, flushIntervalMillis);
+    }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.6.1 selectImage
-
-    // --> to do  ---> rework this!!!!!
+            //  --> 10.2 disableWriteBehind
         //-------------------------------------------------------------------------------------
     /**
-     * selectImage is a function that returns a single Image value from the database, based specific table specified by current JavaSqlCommunication instance
-     * @param column_name The Column-name from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Image value
+     * disableWriteBehind is a function that writes every queued insert, stops the background writer and returns the insert methods to
+     * synchronous mode --> it does nothing if write-behind is not enabled
      */
-    public  String selectImage(String column_name, String whereCondition ) throws Exception
-    {
-        return selectImage(column_name, whereCondition, this.tableName);
+    public synchronized void disableWriteBehind() {
+        WriteBehind buffer = writeBehind;
+        if(buffer == null)
+            return;
+        buffer.stop();
+        writeBehind = null;
     }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.6.2 selectImage
+            //  --> 10.3 flush
         //-------------------------------------------------------------------------------------
     /**
-     * selectImage is a function that returns a single Image value from the database specified by current JavaSqlCommunication instance,
-     * NOTE: This method allows the user to specify the table where the value should be obtained from
-     * @param column_name The Column-name from where the value is selected
-     * @param table_name The name of the Table from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Image value
+     * flush is a function that waits until every insert queued before it was called has been written (or has failed)
+     * --> it returns immediately if write-behind is not enabled
      */
-    public  String selectImage(String column_name, String whereCondition, String table_name ) throws Exception
-    {
-        if(column_name == null)
-            throw new IllegalStateException("selectImage: column_name is null");
-        if(whereCondition == null)
-            throw new IllegalStateException("selectImage: whereCondition is null");
-        if(table_name == null)
-            throw new IllegalStateException("selectImage: table_name is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
+    public void flush() throws InterruptedException {
+        WriteBehind buffer = writeBehind;
+        if(buffer != null)
+            buffer.flush();
+    }
 
-        String image = null;
-        try ( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery()
-        ){
-            temp.next();
-            image =temp.getString(1);
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
-        }
-        return image;
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 10.4 write-behind metrics
+        //-------------------------------------------------------------------------------------
+    /**
+     * getWriteBehindQueueDepth is a function that returns how many inserts are queued or being written right now (0 if write-behind is not enabled)
+     */
+    public int getWriteBehindQueueDepth() {
+        WriteBehind buffer = writeBehind;
+        return buffer == null ? 0 : buffer.depth();
     }
 
+    /**
+     * getWriteBehindRowsWritten is a function that returns how many queued inserts the background writer has written since write-behind was enabled
+     */
+    public long getWriteBehindRowsWritten() {
+        WriteBehind buffer = writeBehind;
+        return buffer == null ? 0 : buffer.written.get();
+    }
 
+    /**
+     * getWriteBehindFailedRows is a function that returns how many queued inserts were lost because inserting them failed
+     */
+    public long getWriteBehindFailedRows() {
+        WriteBehind buffer = writeBehind;
+        return buffer == null ? 0 : buffer.failed.get();
+    }
 
+    /**
+     * getWriteBehindLastFlushMillis is a function that returns how long, in milliseconds, the background writer's last batch took (connect, execute and commit)
+     */
+    public double getWriteBehindLastFlushMillis() {
+        WriteBehind buffer = writeBehind;
+        return buffer == null ? 0 : buffer.lastFlushNanos / 1_000_000.0;
+    }
 
+    /**
+     * getWriteBehindAverageFlushMillis is a function that returns the average time, in milliseconds, the background writer's batches took
+     */
+    public double getWriteBehindAverageFlushMillis() {
+        WriteBehind buffer = writeBehind;
+        if(buffer == null || buffer.flushes.get() == 0)
+            return 0;
+        return buffer.flushNanos.get() / 1_000_000.0 / buffer.flushes.get();
+    }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.7.1  selectDate
+            //  --> 10.5 deferInsert
         //-------------------------------------------------------------------------------------
     /**
-     * selectDate is a function that returns a single Date value from the database, based specific table specified by current JavaSqlCommunication instance
-     * @param column_name The Column-name from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Date value
+     * deferInsert is the function the single-value insert methods call first, it queues the value and returns true when write-behind
+     * is enabled, otherwise it returns false and the insert is sent right away
+     * --> the int, boolean, float and double versions keep the value in the queued insert without boxing it
      */
-    public  String selectDate(String column_name, String whereCondition ) throws Exception
-    {
-        return selectDate(column_name, whereCondition, this.tableName);
+    private boolean deferInsert(String tablename, String columnname, Object value) throws InterruptedException {
+        return deferInsert(tablename, columnname, BoundValue.OBJECT, 0, value);
+    }
+
+    private boolean deferInsert(String tablename, String columnname, int value) throws InterruptedException {
+        return deferInsert(tablename, columnname, BoundValue.INT, value, null);
+    }
+
+    private boolean deferInsert(String tablename, String columnname, boolean value) throws InterruptedException {
+        return deferInsert(tablename, columnname, BoundValue.BOOLEAN, value ? 1 : 0, null);
+    }
+
+    private boolean deferInsert(String tablename, String columnname, float value) throws InterruptedException {
+        return deferInsert(tablename, columnname, BoundValue.FLOAT, Float.floatToRawIntBits(value), null);
+    }
+
+    private boolean deferInsert(String tablename, String columnname, double value) throws InterruptedException {
+        return deferInsert(tablename, columnname, BoundValue.DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+
+    private boolean deferInsert(String tablename, String columnname, int kind, long bits, Object value) throws InterruptedException {
+        WriteBehind buffer = writeBehind;
+        return buffer != null && currentTransaction.get() == null && buffer.enqueue(new PendingInsert(tablename, columnname, kind, bits, value));
     }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.7.2 selectDate
+            //  --> 10.6 WriteBehind
         //-------------------------------------------------------------------------------------
     /**
-     * selectDate is a function that returns a single Date value from the database specified by current JavaSqlCommunication instance,
-     * NOTE: This method allows the user to specify the table where the value should be obtained from
-     * @param column_name The Column-name from where the value is selected
-     * @param table_name The name of the Table from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Date value
+     * WriteBehind holds the queue of pending inserts and the background writer that empties it
+     * --> the queue is a lock-free ConcurrentLinkedQueue, capacity is enforced by a Semaphore whose permits are only
+     *     given back once a value has been written, so values being written still count against the capacity
+     * --> each (table, column) of a batch is written and committed on its own, and if its executeBatch fails the values are
+     *     inserted one at a time instead, so a bad value only loses itself and not the rest of the batch
      */
-    public  String selectDate(String column_name, String whereCondition, String table_name ) throws Exception
-    {
-        if(column_name == null)
-            throw new IllegalStateException("selectDate: column_name is null");
-        if(whereCondition == null)
-            throw new IllegalStateException("selectDate: whereCondition is null");
-        if(table_name == null)
-            throw new IllegalStateException("selectDate: table_name is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
+    private class WriteBehind implements Runnable {
+        private final ConcurrentLinkedQueue<PendingInsert> queue = new ConcurrentLinkedQueue<>();
+        private final Semaphore room;
+        private final int capacity;
+        private final int batchSize;
+        private final long flushIntervalNanos;
+        private final Thread writer;
+        private final AtomicInteger enqueuing = new AtomicInteger(); // callers between their stopping check and their offer
+        private final AtomicLong enqueued = new AtomicLong();
+        private final AtomicLong written = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong flushes = new AtomicLong();
+        private final AtomicLong flushNanos = new AtomicLong();
+        private final Object progress = new Object(); // notified after every batch, flush() waits on it
+        private volatile long lastFlushNanos;
+        private volatile boolean stopping;
+
+        WriteBehind(int capacity, int batchSize, long flushIntervalMillis) {
+            this.capacity = capacity;
+            this.room = new Semaphore(capacity);
+            this.batchSize = batchSize;
+            this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+            this.writer = new Thread(this, "JavaSqlCommunication-write-behind");
+            this.writer.setDaemon(true);
+            this.writer.start();
+        }
 
-        String date = null;
-        try ( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery()
-        ){
-            temp.next();
-            date =temp.getString(1);
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
+        boolean enqueue(PendingInsert pending) throws InterruptedException {
+            enqueuing.incrementAndGet();
+            try {
+                if(stopping)
+                    return false;
+                room.acquire();
+                queue.offer(pending);
+                enqueued.incrementAndGet();
+            } finally {
+                enqueuing.decrementAndGet();
+            }
+            if(depth() >= batchSize)
+                LockSupport.unpark(writer);
+            return true;
+        }
+
+        int depth() {
+            return capacity - room.availablePermits();
+        }
+
+        void flush() throws InterruptedException {
+            long target = enqueued.get();
+            LockSupport.unpark(writer);
+            synchronized (progress) {
+                while(written.get() + failed.get() < target && writer.isAlive())
+                    progress.wait(100);
+            }
+        }
+
+        void stop() {
+            stopping = true;
+            LockSupport.unpark(writer);
+            boolean interrupted = false;
+            while(writer.isAlive()) {
+                try {
+                    writer.join();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if(interrupted)
+                Thread.currentThread().interrupt();
+        }
+
+        @Override
+        public void run() {
+            while(!(stopping && enqueuing.get() == 0 && queue.isEmpty())) {
+                if(!stopping && depth() < batchSize)
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                while(!queue.isEmpty())
+                    writeBatch();
+            }
         }
-        return date;
-    }
 
+        private void writeBatch() {
+            Map<String, List<PendingInsert>> byColumn = new LinkedHashMap<>();
+            int count = 0;
+            PendingInsert pending;
+            while(count < batchSize && (pending = queue.poll()) != null) {
+                byColumn.computeIfAbsent(pending.tablename + '\u0000' + pending.columnname, key -> new ArrayList<>()).add(pending);
+                count++;
+            }
+            long start = System.nanoTime();
+            for(List<PendingInsert> rows : byColumn.values()) {
+                int ok = 0;
+                try {
+                    ok = writeRows(rows);
+                } finally {
+                    written.addAndGet(ok);
+                    failed.addAndGet(rows.size() - ok);
+                    room.release(rows.size());
+                    synchronized (progress) {
+                        progress.notifyAll();
+                    }
+                }
+            }
+            long took = System.nanoTime() - start;
+            lastFlushNanos = took;
+            flushNanos.addAndGet(took);
+            flushes.incrementAndGet();
+        }
 
+        // writes the values of one (table, column) as one batch and one commit, or one at a time if the batch fails, returns how many were written
+        private int writeRows(List<PendingInsert> rows) {
+            String tablename = rows.get(0).tablename;
+            String sql = insertSql(tablename, rows.get(0).columnname);
+            try (Connection conn = getConnection(databaseName)) {
+                boolean ok = false;
+                conn.setAutoCommit(false);
+                try (PreparedStatement posted = conn.prepareStatement(sql)) {
+                    for(PendingInsert row : rows) {
+                        row.bind(posted, 1);
+                        posted.addBatch();
+                    }
+                    posted.executeBatch();
+                    conn.commit();
+                    tableWritten(tablename);
+                    ok = true;
+                } catch (SQLException batchFailure) {
+                    conn.rollback(); // written again below one value at a time, so only the bad values are lost
+                } finally {
+                    conn.setAutoCommit(true);
+                }
+                if(ok)
+                    return rows.size();
+
+                int inserted = 0;
+                try (PreparedStatement posted = conn.prepareStatement(sql)) {
+                    for(PendingInsert row : rows) {
+                        try {
+                            row.bind(posted, 1);
+                            posted.executeUpdate();
+                            inserted++;
+                        } catch (SQLException ex) {
+                            System.out.println("SQLException: " + ex.getMessage());
+                            System.out.println("SQLState: " + ex.getSQLState());
+                            System.out.println("VendorError: " + ex.getErrorCode());
+                        }
+                    }
+                }
+                if(inserted > 0)
+                    tableWritten(tablename);
+                return inserted;
+            } catch (SQLException ex) {
+                System.out.println("SQLException: " + ex.getMessage());
+                System.out.println("SQLState: " + ex.getSQLState());
+                System.out.println("VendorError: " + ex.getErrorCode());
+            } catch (Exception ex) {
+                System.out.println("write-behind: " + ex);
+            }
+            return 0;
+        }
+    }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.8.1 selectDateTime
+            //  --> 10.6.1 PendingInsert
         //-------------------------------------------------------------------------------------
     /**
-     * selectDateTime is a function that returns a single DateTime value from the database, based specific table specified by current JavaSqlCommunication instance
-     * @param column_name The Column-name from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) DateTime value
+     * PendingInsert is one queued insert: the value and where it goes
      */
-    public  String selectDateTime(String column_name, String whereCondition ) throws Exception
-    {
-        return selectDateTime(column_name, whereCondition, this.tableName);
+    private static class PendingInsert extends BoundValue {
+        private final String tablename;
+        private final String columnname;
+
+        PendingInsert(String tablename, String columnname, int kind, long bits, Object value) {
+            super(kind, bits, value);
+            this.tablename = tablename;
+            this.columnname = columnname;
+        }
     }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.8.2 selectDateTime
+            //  --> 10.6.2 BoundValue
         //-------------------------------------------------------------------------------------
     /**
-     * selectDateTime is a function that returns a single DateTime value from the database specified by current JavaSqlCommunication instance,
-     * NOTE: This method allows the user to specify the table where the value should be obtained from
-     * @param column_name The Column-name from where the value is selected
-     * @param table_name The name of the Table from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) DateTime value
+     * BoundValue is a value waiting to be bound to a statement parameter, int, boolean, float and double values are kept in bits
+     * (floats and doubles as their raw bits) and bound with setInt, setBoolean, setFloat or setDouble, so they are never boxed,
+     * any other value is kept as it is and bound with setObject
      */
-    public  String selectDateTime(String column_name, String whereCondition, String table_name ) throws Exception
-    {
-        if(column_name == null)
-            throw new IllegalStateException("selectDateTime: column_name is null");
-        if(whereCondition == null)
-            throw new IllegalStateException("selectDateTime: whereCondition is null");
-        if(table_name == null)
-            throw new IllegalStateException("selectDateTime: table_name is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
+    private abstract static class BoundValue {
+        static final int OBJECT = 0;
+        static final int INT = 1;
+        static final int BOOLEAN = 2;
+        static final int FLOAT = 3;
+        static final int DOUBLE = 4;
+
+        private final int kind;
+        private final long bits;
+        private final Object value;
+
+        BoundValue(int kind, long bits, Object value) {
+            this.kind = kind;
+            this.bits = bits;
+            this.value = value;
+        }
 
-        String datetime = null;
-        try( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery()
-        ){
-            temp.next();
-            datetime =temp.getString(1);
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
+        void bind(PreparedStatement posted, int index) throws SQLException {
+            switch (kind) {
+                case INT: posted.setInt(index, (int) bits); break;
+                case BOOLEAN: posted.setBoolean(index, bits != 0); break;
+                case FLOAT: posted.setFloat(index, Float.intBitsToFloat((int) bits)); break;
+                case DOUBLE: posted.setDouble(index, Double.longBitsToDouble(bits)); break;
+                default: posted.setObject(index, value);
+            }
         }
-        return datetime;
     }
 
-
-
+    //---------------------------------------------------------------------------------------------------------------------
+    // End ----> Code for Part 10 :  Write-behind  <----- End.
+    //---------------------------------------------------------------------------------------------------------------------
+
+
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+    //********************************************************************************************************************
+
+
+    //---------------------------------------------------------------------------------------------------------------------
+    // Part 11 : JavaSqlCommunication  --> Group commit <-- concurrent inserts/updates sharing one commit
+    //---------------------------------------------------------------------------------------------------------------------
+
+        //  --> 11.1 enableGroupCommit
+    //-------------------------------------------------------------------------------------
+    /**
+     * enableGroupCommit is a function that lets concurrent calls to the single-value insert and update methods share one commit
+     * --> the first caller to arrive becomes the leader of a group, it waits up to windowMillis for other callers (or until maxGroupSize
+     *     have arrived), then runs every statement of the group on one connection in one transaction and commits once,
+     *     each caller returns only after that shared commit has succeeded, so every call is still durable when it returns
+     * --> with many threads writing at once this turns one commit (one log flush on the server) per call into one per group
+     * --> Note 1: a single caller with nobody to share with waits the whole window, keep windowMillis small (1 - 5 ms)
+     * --> Note 2: a statement that fails only fails its own call, MySQL rolls back just that statement and the rest of the group commits,
+     *             if the whole transaction is lost (deadlock, failed commit, lost connection) every call in the group fails
+     * --> Note 3: calls made inside inTransaction are never grouped, and when write-behind is enabled inserts go to its queue instead
+     * @param windowMillis How long a group leader waits for other callers to join its group
+     * @param maxGroupSize The most calls committed together
+     */
+    public synchronized void enableGroupCommit(long windowMillis, int maxGroupSize) {
+        if(windowMillis < 0)
+            throw new IllegalArgumentException("enableGroupCommit: windowMillis is negative");
+        if(maxGroupSize < 1)
+            throw new IllegalArgumentException("enableGroupCommit: maxGroupSize must be at least 1");
+        if(groupCommit != null)
+            throw new IllegalStateException("enableGroupCommit: group commit is already enabled");
+        groupCommit = new GroupCommit(windowMillis, maxGroupSize);
+    }
+
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.9.1 selectBlob
+            //  --> 11.2 disableGroupCommit
         //-------------------------------------------------------------------------------------
     /**
-     * selectBlob is a function that returns a single Blob value from the database, based specific table specified by current JavaSqlCommunication instance
-     * @param column_name The Column-name from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Blob value
+     * disableGroupCommit is a function that returns the insert and update methods to one commit per call,
+     * --> it waits until every call already waiting in a group has been committed (a leader still waiting for its window commits right away)
+     * --> it does nothing if group commit is not enabled
      */
-    public  String selectBlob(String column_name, String whereCondition ) throws Exception
-    {
-        return selectBlob(column_name, whereCondition, this.tableName);
+    public synchronized void disableGroupCommit() {
+        GroupCommit group = groupCommit;
+        if(group == null)
+            return;
+        groupCommit = null;
+        group.stop();
     }
 
     //-----------------------------------------------------------------------------------------------------------------
-            //  --> 5.9.2 selectBlob
+            //  --> 11.3 groupWrite
         //-------------------------------------------------------------------------------------
     /**
-     * selectBlob is a function that returns a single Blob value from the database specified by current JavaSqlCommunication instance,
-     * NOTE: This method allows the user to specify the table where the value should be obtained from
-     * @param column_name The Column-name from where the value is selected
-     * @param table_name The name of the Table from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a single (table-entry) Blob value
+     * groupWrite is the function the single-value insert and update methods call before running their statement,
+     * when group commit is enabled it runs sql (with value bound to its only parameter) as part of a group and returns true,
+     * otherwise it returns false and the caller runs the statement itself
+     * --> the int, boolean, float and double versions keep the value in the grouped write without boxing it
      */
-    public  String selectBlob(String column_name, String whereCondition, String table_name ) throws Exception {
-        if(column_name == null)
-            throw new IllegalStateException("selectBlob: column_name is null");
-        if(whereCondition == null)
-            throw new IllegalStateException("selectBlob: whereCondition is null");
-        if(table_name == null)
-            throw new IllegalStateException("selectBlob: table_name is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
+    private boolean groupWrite(String tablename, String sql, Object value) throws Exception {
+        return groupWrite(tablename, sql, BoundValue.OBJECT, 0, value);
+    }
 
-        String blob = null;
-        try( Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery()
-        ){
-            temp.next();
-            blob =temp.getString(1);
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
-        }
-        return blob;
+    private boolean groupWrite(String tablename, String sql, int value) throws Exception {
+        return groupWrite(tablename, sql, BoundValue.INT, value, null);
     }
 
+    private boolean groupWrite(String tablename, String sql, boolean value) throws Exception {
+        return groupWrite(tablename, sql, BoundValue.BOOLEAN, value ? 1 : 0, null);
+    }
 
+    private boolean groupWrite(String tablename, String sql, float value) throws Exception {
+        return groupWrite(tablename, sql, BoundValue.FLOAT, Float.floatToRawIntBits(value), null);
+    }
 
-    /*//  ****    ------- >  TO DO!!!!
-    // --> the implementation depends on the datatype and the structure of the json file itself as such
-    //        it requires unique implementation
-    //-----------------------------------------------------------------------------------------------------------------
-    //  --> 5.10.1 selectJSON
-    //-------------------------------------------------------------------------------------
-    public JsonValue selectJSON(String column_name, String whereCondition ) throws Exception
-    {
-        return selectJSON(column_name, whereCondition, this.tableName)
+    private boolean groupWrite(String tablename, String sql, double value) throws Exception {
+        return groupWrite(tablename, sql, BoundValue.DOUBLE, Double.doubleToRawLongBits(value), null);
     }
-    //-----------------------------------------------------------------------------------------------------------------
-    //  --> 5.10.2 selectJSON
-    //-------------------------------------------------------------------------------------
-    public  JsonValue selectJSON(String column_name, String whereCondition, String table_name ) throws Exception
-    {
-        if(table_name==null)
-            throw new IllegalStateException(" selectJSON: tablename is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
-        JsonValue json = null;
-        try{
-            Connection con = getConnection(this.databaseName+"");
-            PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-            ResultSet temp = posted.executeQuery();
-            temp.next();
-            json =temp.get(1);
-            posted.close();
-            conn.close()
-        }catch (SQLException ex) {
+
+    private boolean groupWrite(String tablename, String sql, int kind, long bits, Object value) throws Exception {
+        GroupCommit group = groupCommit;
+        if(group == null || currentTransaction.get() != null)
+            return false;
+        try {
+            return group.submit(new GroupedWrite(tablename, sql, kind, bits, value));
+        } catch (SQLException ex) {
             System.out.println("SQLException: " + ex.getMessage());
             System.out.println("SQLState: " + ex.getSQLState());
             System.out.println("VendorError: " + ex.getErrorCode());
-        }finally{System.out.println("Select Text Successfully executed");}
-        return json;
+        }
+        return true;
     }
-*/
 
-    //---------------------------------------------------------------------------------------------------------------------
-    // End ----> Code for Part 5 :  Select  <----- End.
-    //---------------------------------------------------------------------------------------------------------------------
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 11.4 GroupCommit
+        //-------------------------------------------------------------------------------------
+    /**
+     * GroupCommit collects the calls waiting to be written, there is at most one leader collecting a group at a time,
+     * once it has taken its group it hands leadership to the next waiting caller, so the next group can form while it commits
+     */
+    private class GroupCommit {
+        private final long windowNanos;
+        private final int maxGroupSize;
+        private final List<GroupedWrite> pending = new ArrayList<>(); // guarded by this
+        private boolean leading; // guarded by this, true while a leader is collecting (or a caller has been promoted to leader)
+        private int committing; // guarded by this, groups taken but not committed yet
+        private boolean stopped; // guarded by this, set by stop(), later calls are not grouped
+
+        GroupCommit(long windowMillis, int maxGroupSize) {
+            this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+            this.maxGroupSize = maxGroupSize;
+        }
 
+        /** returns false, without running the write, once stop() has been called */
+        boolean submit(GroupedWrite write) throws Exception {
+            boolean lead;
+            synchronized (this) {
+                if(stopped)
+                    return false;
+                pending.add(write);
+                lead = !leading;
+                if(lead)
+                    leading = true;
+                else if(pending.size() >= maxGroupSize)
+                    notifyAll();
+            }
+            if(lead || write.awaitLeadership())
+                runGroup();
+            write.awaitDone();
+            if(write.failure != null)
+                throw write.failure;
+            return true;
+        }
 
-    //********************************************************************************************************************
-    //********************************************************************************************************************
-    //********************************************************************************************************************
+        /** stops grouping new calls and waits until every group already formed has been committed */
+        void stop() {
+            boolean interrupted = false;
+            synchronized (this) {
+                stopped = true;
+                notifyAll(); // a leader still waiting for its window takes its group now
+                while(leading || committing > 0) {
+                    try {
+                        wait();
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if(interrupted)
+                Thread.currentThread().interrupt();
+        }
 
+        private void runGroup() {
+            List<GroupedWrite> group;
+            boolean interrupted = false;
+            synchronized (this) {
+                long deadline = System.nanoTime() + windowNanos;
+                long left;
+                while(!stopped && pending.size() < maxGroupSize && (left = deadline - System.nanoTime()) > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, left);
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    }
+                }
+                List<GroupedWrite> taken = pending.subList(0, Math.min(pending.size(), maxGroupSize));
+                group = new ArrayList<>(taken);
+                taken.clear();
+                committing++;
+                if(pending.isEmpty())
+                    leading = false;
+                else
+                    pending.get(0).promote();
+            }
+            if(interrupted)
+                Thread.currentThread().interrupt();
+            try {
+                commitGroup(group);
+            } finally {
+                synchronized (this) {
+                    committing--;
+                    notifyAll();
+                }
+            }
+        }
 
-    //---------------------------------------------------------------------------------------------------------------------
-    // Methods: Part 6 : JavaSqlCommunication  --> Delete <-- operations
-    //---------------------------------------------------------------------------------------------------------------------
+        private void commitGroup(List<GroupedWrite> group) {
+            Exception groupFailure = null;
+            try (Connection conn = getConnection(databaseName)) {
+                conn.setAutoCommit(false);
+                try {
+                    for(GroupedWrite write : group) {
+                        // inserts have the fixed text of insertSql, updates end with the caller's whereCondition
+                        try (PreparedStatement posted = write.sql.startsWith("INSERT ") ? conn.prepareStatement(write.sql) : prepareClientSide(conn, write.sql)) {
+                            write.bind(posted, 1);
+                            posted.executeUpdate();
+                        } catch (SQLException ex) {
+                            if(ex instanceof SQLTransactionRollbackException || (ex.getSQLState() != null && ex.getSQLState().startsWith("40")))
+                                throw ex; // the server rolled back the whole transaction, not just this statement
+                            write.failure = ex;
+                        }
+                    }
+                    conn.commit();
+                    for(GroupedWrite write : group)
+                        if(write.failure == null)
+                            tableWritten(write.tablename);
+                } catch (SQLException ex) {
+                    conn.rollback();
+                    throw ex;
+                } finally {
+                    conn.setAutoCommit(true);
+                }
+            } catch (Exception ex) {
+                groupFailure = ex;
+            }
+            for(GroupedWrite write : group)
+                write.finish(groupFailure);
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 11.4.1 GroupedWrite
+        //-------------------------------------------------------------------------------------
+    /**
+     * GroupedWrite is one call waiting in a group: its statement, its value (see BoundValue), and how it ended
+     */
+    private static class GroupedWrite extends BoundValue {
+        private final String tablename;
+        private final String sql;
+        private Exception failure; // guarded by this until done
+        private boolean leader;
+        private boolean done;
+
+        GroupedWrite(String tablename, String sql, int kind, long bits, Object value) {
+            super(kind, bits, value);
+            this.tablename = tablename;
+            this.sql = sql;
+        }
+
+        synchronized void promote() {
+            leader = true;
+            notifyAll();
+        }
+
+        synchronized void finish(Exception groupFailure) {
+            if(groupFailure != null)
+                failure = groupFailure;
+            done = true;
+            notifyAll();
+        }
 
+        /** waits until this call is either written by another leader (returns false) or has to lead the next group itself (returns true) */
+        synchronized boolean awaitLeadership() {
+            awaitUninterruptibly(() -> leader || done);
+            return !done;
+        }
 
+        synchronized void awaitDone() {
+            awaitUninterruptibly(() -> done);
+        }
 
+        // the statement runs whether or not the caller is interrupted, so the caller keeps waiting for its outcome and is re-interrupted afterwards
+        private void awaitUninterruptibly(BooleanSupplier condition) {
+            boolean interrupted = false;
+            while(!condition.getAsBoolean()) {
+                try {
+                    wait();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if(interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
 
     //---------------------------------------------------------------------------------------------------------------------
-    // End ----> Code for Part 6 :  delete  <----- End.
+    // End ----> Code for Part 11 :  Group commit  <----- End.
     //---------------------------------------------------------------------------------------------------------------------
 
 
@@ -2221,130 +8144,280 @@ public class JavaSqlCommunication {
 
 
     //---------------------------------------------------------------------------------------------------------------------
-    // Methods: Part 7 : JavaSqlCommunication  --> useful functions  <-- operations
+    // Part 12 : JavaSqlCommunication  --> Result cache <-- repeated single-value selects answered from memory
     //---------------------------------------------------------------------------------------------------------------------
 
-        //  --> 7.1.1 addText
+        //  --> 12.1 enableResultCache
     //-------------------------------------------------------------------------------------
     /**
-     * addText is a function that adds tet to an existing entry of text contianedd in a  in the specified column with the specified value, --> (A) where the specified condition is true
-     * :: --> ::NOTE 0: This method allows the user to specify the table where the update should occur in
-     *      * --> Note 1: The column must already exist in the database specified by current JavaSqlCommunication instance.
-     *      * --> Note 2: This method will NOT create a new row, HOWEVER it will update the value to an existing row
-     * @param input_value The Value to be entered into the column
-     * @param column_Name The Column-name where the Text will be inserted
-     * @param tablename The name of the Table where the Text will be inserted
-     * @param whereCondition The Condition that must be met for the update to occur in a specific row
+     * enableResultCache is a function that keeps the results of the single-value selects (selectText, selectInt, selectBoolean, selectFloat,
+     * selectReal, selectImage, selectDate, selectDateTime and selectBlob) in memory, keyed by (select, table, column, whereCondition),
+     * so asking the same question again within the time-to-live is answered without a query
+     * --> when more than maxEntries results are kept, the least recently used one is dropped
+     * --> every insert, update, upsert, addText, batch or bulk load this instance runs on a table drops the cached results of that table
+     * --> Note 1: changes made by other programs (or other JavaSqlCommunication instances) are only seen once the cached result expires,
+     *             so only cache tables that rarely change (configuration, lookups, ...) and choose the time-to-live accordingly
+     * --> Note 2: selects inside inTransaction never use the cache, and the tables a transaction writes are dropped again when it commits
+     * @param maxEntries The most results kept in memory
+     * @param defaultTtlMillis How long a result is kept, for tables without their own time-to-live (see setResultCacheTtl)
      */
-    public void addText(String input_value, String column_Name, String whereCondition, String tablename ) throws Exception{
-        if(input_value == null)
-            throw new IllegalStateException(" update: input_value is null");
-        if(column_Name == null)
-            throw new IllegalStateException(" update: column_Name is null");
+    public synchronized void enableResultCache(int maxEntries, long defaultTtlMillis) {
+        if(maxEntries < 1)
+            throw new IllegalArgumentException("enableResultCache: maxEntries must be at least 1");
+        if(defaultTtlMillis < 1)
+            throw new IllegalArgumentException("enableResultCache: defaultTtlMillis must be at least 1");
+        if(resultCache != null)
+            throw new IllegalStateException("enableResultCache: the result cache is already enabled");
+        resultCache = new ResultCache(maxEntries, defaultTtlMillis);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 12.2 setResultCacheTtl
+        //-------------------------------------------------------------------------------------
+    /**
+     * setResultCacheTtl is a function that sets how long the results of one table are kept, instead of the default time-to-live
+     * --> results already cached keep the time-to-live they were stored with
+     * @param tablename The name of the Table
+     * @param ttlMillis How long a result from that table is kept
+     */
+    public void setResultCacheTtl(String tablename, long ttlMillis) {
         if(tablename == null)
-            throw new IllegalStateException(" update: tablename is null");
-        if(whereCondition == null)
-            throw new IllegalStateException(" update: whereCondition is null");
+            throw new IllegalStateException("setResultCacheTtl: tablename is null");
+        if(ttlMillis < 1)
+            throw new IllegalArgumentException("setResultCacheTtl: ttlMillis must be at least 1");
+        ResultCache cache = resultCache;
+        if(cache == null)
+            throw new IllegalStateException("setResultCacheTtl: the result cache is not enabled");
+        cache.tableTtlNanos.put(tablename, TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+    }
 
-        StringBuilder text = new StringBuilder();
-        try(
-            // part 1 --> get the value already in the box/location and add the new addition to the end
-            Connection con = getConnection(this.databaseName+"");
-            PreparedStatement get = con.prepareStatement("SELECT " + column_Name + " FROM " + tablename + " WHERE " + whereCondition);
-            ResultSet temp = get.executeQuery()
-        ){
-            temp.next();
-            text.append(temp.getString(1));
-            text.append(", " + input_value);
-            String var1 =   "\'" + text.toString()+ "\'" ;
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 12.3 disableResultCache
+        //-------------------------------------------------------------------------------------
+    /**
+     * disableResultCache is a function that drops every cached result and sends every select to the database again
+     */
+    public synchronized void disableResultCache() {
+        resultCache = null;
+    }
 
-            // part 2 --> update the var/box
-            try(
-            PreparedStatement posted = con.prepareStatement("UPDATE " + tablename + " SET " + column_Name + " = " + var1  +" WHERE " + whereCondition);
-            ){
-                posted.executeUpdate();
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 12.4 invalidateResultCache
+        //-------------------------------------------------------------------------------------
+    /**
+     * invalidateResultCache is a function that drops the cached results of a table, e.g after another program has changed it
+     * @param tablename The name of the Table
+     */
+    public void invalidateResultCache(String tablename) {
+        if(tablename == null)
+            throw new IllegalStateException("invalidateResultCache: tablename is null");
+        ResultCache cache = resultCache;
+        if(cache != null)
+            cache.invalidate(tablename);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 12.5 result cache metrics
+        //-------------------------------------------------------------------------------------
+    /**
+     * getResultCacheHits is a function that returns how many selects were answered from the cache since it was enabled
+     */
+    public long getResultCacheHits() {
+        ResultCache cache = resultCache;
+        return cache == null ? 0 : cache.hits.get();
+    }
+
+    /**
+     * getResultCacheMisses is a function that returns how many cacheable selects had to query the database since the cache was enabled
+     */
+    public long getResultCacheMisses() {
+        ResultCache cache = resultCache;
+        return cache == null ? 0 : cache.misses.get();
+    }
+
+    /**
+     * getResultCacheSize is a function that returns how many results are cached right now (expired ones included until they are looked up or evicted)
+     */
+    public int getResultCacheSize() {
+        ResultCache cache = resultCache;
+        return cache == null ? 0 : cache.size();
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 12.6 lookupResult
+        //-------------------------------------------------------------------------------------
+    /**
+     * lookupResult is the function the single-value selects call before querying, it returns the cached result when there is one,
+     * otherwise a CachedResult whose store(value) caches what the select read --> when the cache is off it returns NOT_CACHED without allocating
+     */
+    private CachedResult lookupResult(String select, String table_name, String column_name, String whereCondition) {
+        ResultCache cache = resultCache;
+        if(cache == null || currentTransaction.get() != null)
+            return CachedResult.NOT_CACHED;
+        return cache.lookup(select, table_name, column_name, whereCondition);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 12.7 tableWritten
+        //-------------------------------------------------------------------------------------
+    /**
+     * tableWritten is the function every write path calls once its statement has run (or its batch has been committed), it drops the cached results of that table
+     * --> inside inTransaction the table is remembered and dropped again after the commit, so nothing read before the commit stays cached
+     */
+    private void tableWritten(String tablename) {
+        ResultCache cache = resultCache;
+        if(cache == null)
+            return;
+        cache.invalidate(tablename);
+        Transaction transaction = currentTransaction.get();
+        if(transaction != null)
+            transaction.writtenTables.add(tablename);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------------
+            //  --> 12.8 ResultCache
+        //-------------------------------------------------------------------------------------
+    /**
+     * ResultCache is an LRU map of select results (a LinkedHashMap in access order, trimmed to maxEntries)
+     * --> dropping a table does not search the map, each table has a generation number that every write increases,
+     *     a result stored under an older generation is treated as missing the next time it is looked up
+     * --> a select only stores its result if the generation did not change while it ran, and writes increase the generation after they are applied,
+     *     so a select that read the value from before a write either stores it before the increase (and it is dropped by it) or not at all
+     */
+    private static class ResultCache {
+        private final int maxEntries;
+        private final long defaultTtlNanos;
+        private final ConcurrentHashMap<String, Long> tableTtlNanos = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final LinkedHashMap<String, CachedValue> entries; // guarded by itself
+
+        ResultCache(int maxEntries, long defaultTtlMillis) {
+            this.maxEntries = maxEntries;
+            this.defaultTtlNanos = TimeUnit.MILLISECONDS.toNanos(defaultTtlMillis);
+            this.entries = new LinkedHashMap<String, CachedValue>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedValue> eldest) {
+                    return size() > ResultCache.this.maxEntries;
+                }
+            };
+        }
+
+        CachedResult lookup(String select, String tablename, String columnname, String whereCondition) {
+            String key = select + '\u0000' + tablename + '\u0000' + columnname + '\u0000' + whereCondition;
+            AtomicLong generation = generations.computeIfAbsent(tablename, table -> new AtomicLong());
+            long current = generation.get();
+            CachedValue cached;
+            synchronized (entries) {
+                cached = entries.get(key);
+                if(cached != null && (cached.generation != current || System.nanoTime() - cached.expiresAt > 0)) {
+                    entries.remove(key);
+                    cached = null;
+                }
             }
-            catch (SQLException ex) {
-                System.out.println("SQLException: " + ex.getMessage());
-                System.out.println("SQLState: " + ex.getSQLState());
-                System.out.println("VendorError: " + ex.getErrorCode());
+            if(cached != null) {
+                hits.incrementAndGet();
+                return new CachedResult(true, cached.value);
             }
+            misses.incrementAndGet();
+            return new CachedResult(this, key, tablename, generation, current);
         }
-        catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
+
+        void store(String key, String tablename, AtomicLong generation, long readAt, Object value) {
+            long ttl = tableTtlNanos.getOrDefault(tablename, defaultTtlNanos);
+            synchronized (entries) {
+                if(generation.get() == readAt)
+                    entries.put(key, new CachedValue(value, readAt, System.nanoTime() + ttl));
+            }
+        }
+
+        void invalidate(String tablename) {
+            generations.computeIfAbsent(tablename, table -> new AtomicLong()).incrementAndGet();
+        }
+
+        int size() {
+            synchronized (entries) {
+                return entries.size();
+            }
         }
     }
 
-    
     //-----------------------------------------------------------------------------------------------------------------
-    //  --> 7.2.1 isLocationEmpty
-    //-------------------------------------------------------------------------------------
+            //  --> 12.8.1 CachedValue
+        //-------------------------------------------------------------------------------------
     /**
-     * isLocationEmpty is a function that returns a boolean value, with regard to weather a database location (row,col) is empty.
-     * @param column_name The Column-name from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a Boolean Value
+     * CachedValue is one cached select result (null when the column was NULL), with the table generation it was read under and when it expires
      */
-    public boolean isLocationEmpty(String column_name, String whereCondition ) throws Exception
-    {
-        return isLocationEmpty(column_name, whereCondition, this.tableName);
+    private static class CachedValue {
+        private final Object value;
+        private final long generation;
+        private final long expiresAt; // System.nanoTime() deadline
+
+        CachedValue(Object value, long generation, long expiresAt) {
+            this.value = value;
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
     }
 
     //-----------------------------------------------------------------------------------------------------------------
-    //  --> 7.2.2 isLocationEmpty
-    //-------------------------------------------------------------------------------------
+            //  --> 12.8.2 CachedResult
+        //-------------------------------------------------------------------------------------
     /**
-     * isLocationEmpty is a function that returns a boolean value, with regard to weather a database location (row,col) is empty.
-     * NOTE: This method allows the user to specify the table where the value should be obtained from
-     * @param column_name The Column-name from where the value is selected
-     * @param table_name The name of the Table from where the value is selected
-     * @param whereCondition The Condition that must be met for the select to occur in a specific row
-     * @return Returns a Boolean Value
+     * CachedResult is the answer of lookupResult: either a hit (hit() is true and value() is the cached result),
+     * or a miss the select fills in with store(value) once it has read the value
      */
-    public boolean isLocationEmpty(String column_name, String whereCondition, String table_name ) throws Exception {
-        if(column_name == null)
-            throw new IllegalStateException("isLocationEmpty: column_name is null");
-        if(whereCondition == null)
-            throw new IllegalStateException("isLocationEmpty: whereCondition is null");
-        if(table_name == null)
-            throw new IllegalStateException("isLocationEmpty: table_name is null");
-        if(column_name.compareToIgnoreCase("all") == 0 )
-            column_name = "*";
-
-        String blob = null;
-        try( Connection con = getConnection(this.databaseName+"");
-             PreparedStatement posted = con.prepareStatement("SELECT " + column_name + " FROM " + table_name + " WHERE " + whereCondition);
-             ResultSet temp = posted.executeQuery()
-        ){
-            //System.out.println(temp.toString());
-            temp.next();
-            //System.out.println(temp.getString(1));
+    private static class CachedResult {
+        static final CachedResult NOT_CACHED = new CachedResult(false, null);
+
+        private final boolean hit;
+        private final Object value;
+        private final ResultCache cache;
+        private final String key;
+        private final String tablename;
+        private final AtomicLong generation;
+        private final long readAt;
+
+        CachedResult(boolean hit, Object value) {
+            this.hit = hit;
+            this.value = value;
+            this.cache = null;
+            this.key = null;
+            this.tablename = null;
+            this.generation = null;
+            this.readAt = 0;
+        }
 
-            if(temp.getString(1)!=null)
-                return false;
-            else
-                return true;
-        }catch (SQLException ex) {
-            System.out.println("SQLException: " + ex.getMessage());
-            System.out.println("SQLState: " + ex.getSQLState());
-            System.out.println("VendorError: " + ex.getErrorCode());
-            return true;
+        CachedResult(ResultCache cache, String key, String tablename, AtomicLong generation, long readAt) {
+            this.hit = false;
+            this.value = null;
+            this.cache = cache;
+            this.key = key;
+            this.tablename = tablename;
+            this.generation = generation;
+            this.readAt = readAt;
         }
-    }
 
+        boolean hit() {
+            return hit;
+        }
 
+        Object value() {
+            return value;
+        }
 
+        void store(Object value) {
+            if(cache != null)
+                cache.store(key, tablename, generation, readAt, value);
+        }
+    }
 
     //---------------------------------------------------------------------------------------------------------------------
-    // End ----> Code for Part 7 :  useful functions  <----- End.
+    // End ----> Code for Part 12 :  Result cache  <----- End.
     //---------------------------------------------------------------------------------------------------------------------
 
 
-
-
-
     //---------------------------------------------------------------------------------------------------------------------
     //  ::   MAIN   ::
     //---------------------------------------------------------------------------------------------------------------------